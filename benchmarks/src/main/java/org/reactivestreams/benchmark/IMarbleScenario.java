@@ -0,0 +1,20 @@
+package org.reactivestreams.benchmark;
+
+/**
+ * A marble scenario, source diagrams plus a pipeline, shared by correctness checks and benchmarks.
+ */
+public interface IMarbleScenario {
+
+    /**
+     * Checks the output of the pipeline against the expected diagram.
+     */
+    void verify();
+
+    /**
+     * Replays the scenario on a scheduler reset beforehand.
+     *
+     * @return the number of notifications emitted by the pipeline
+     */
+    int replay();
+
+}
@@ -0,0 +1,16 @@
+package org.reactivestreams.benchmark;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+
+import java.util.List;
+
+public interface IObservablePipelineFactory {
+
+    /**
+     * Builds the pipeline under test from the sources of the scenario. Time based operators should use
+     * the given scheduler.
+     */
+    Observable<?> create(List<Observable<String>> sources, Scheduler scheduler);
+
+}
@@ -0,0 +1,45 @@
+package org.reactivestreams.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays marble scenarios, each operation resets the scheduler and replays a whole scenario.
+ * Scenarios are checked against their expected diagram before being measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarbleBenchmark {
+
+    @Param({MarbleScenarios.MAP, MarbleScenarios.FILTER, MarbleScenarios.MERGE, MarbleScenarios.DELAY})
+    public String scenario;
+
+    private IMarbleScenario marbleScenario;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        marbleScenario = MarbleScenarios.create(scenario);
+        marbleScenario.verify();
+    }
+
+    @Benchmark
+    public int replay() {
+        return marbleScenario.replay();
+    }
+}
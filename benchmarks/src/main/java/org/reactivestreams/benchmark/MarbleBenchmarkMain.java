@@ -0,0 +1,46 @@
+package org.reactivestreams.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+/**
+ * Runs {@link MarbleBenchmark} with the GC profiler, then prints replays per second and bytes allocated per event.
+ * Usual JMH options can be given as arguments.
+ */
+public class MarbleBenchmarkMain {
+
+    private static final String ALLOCATION_PER_OPERATION = "·gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Collection<RunResult> results = new Runner(
+                new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .include(MarbleBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build()
+        ).run();
+
+        System.out.println();
+        System.out.println(String.format("%-12s %15s %12s %15s", "Scenario", "Replays/s", "Events", "Bytes/event"));
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String scenario = params.getParam("scenario");
+            int events = MarbleScenarios.create(scenario).replay();
+            Result allocation = result.getSecondaryResults().get(ALLOCATION_PER_OPERATION);
+            System.out.println(String.format("%-12s %15.1f %12d %15s",
+                    scenario,
+                    result.getPrimaryResult().getScore(),
+                    events,
+                    allocation == null ? "n/a" : String.format("%.1f", allocation.getScore() / events)));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.reactivestreams.benchmark;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scenarios replayed by {@link MarbleBenchmark}, by name.
+ */
+public class MarbleScenarios {
+
+    public static final String MAP = "map";
+    public static final String FILTER = "filter";
+    public static final String MERGE = "merge";
+    public static final String DELAY = "delay";
+
+    private static final int REPEAT = 250;
+
+    private static final Function<String, String> TO_UPPER_CASE = new Function<String, String>() {
+        @Override
+        public String apply(String s) {
+            return s.toUpperCase();
+        }
+    };
+
+    public static IMarbleScenario create(String name) {
+        switch (name) {
+            case MAP:
+                return new ObservableScenario(new IObservablePipelineFactory() {
+                    @Override
+                    public Observable<?> create(List<Observable<String>> sources, Scheduler scheduler) {
+                        return sources.get(0).map(TO_UPPER_CASE);
+                    }
+                }, repeat("A-B-") + "|", repeat("a-b-") + "|");
+            case FILTER:
+                return new ObservableScenario(new IObservablePipelineFactory() {
+                    @Override
+                    public Observable<?> create(List<Observable<String>> sources, Scheduler scheduler) {
+                        return sources.get(0).filter(new Predicate<String>() {
+                            @Override
+                            public boolean test(String s) {
+                                return !s.equals("b");
+                            }
+                        });
+                    }
+                }, repeat("a-cd") + "|", repeat("abcd") + "|");
+            case MERGE:
+                return new ObservableScenario(new IObservablePipelineFactory() {
+                    @Override
+                    public Observable<?> create(List<Observable<String>> sources, Scheduler scheduler) {
+                        return sources.get(0).mergeWith(sources.get(1));
+                    }
+                }, repeat("a-b-") + "|", repeat("a---") + "|", repeat("--b-") + "|");
+            case DELAY:
+                return new ObservableScenario(new IObservablePipelineFactory() {
+                    @Override
+                    public Observable<?> create(List<Observable<String>> sources, Scheduler scheduler) {
+                        return sources.get(0).delay(20, TimeUnit.MILLISECONDS, scheduler);
+                    }
+                }, "---" + repeat("a-b-") + "|", "^" + repeat("a-b-") + "|");
+            default:
+                throw new IllegalArgumentException("Unknown scenario " + name);
+        }
+    }
+
+    private static String repeat(String pattern) {
+        StringBuilder builder = new StringBuilder(pattern.length() * REPEAT);
+        for (int i = 0; i < REPEAT; i++) {
+            builder.append(pattern);
+        }
+        return builder.toString();
+    }
+}
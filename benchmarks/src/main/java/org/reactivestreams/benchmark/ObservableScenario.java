@@ -0,0 +1,66 @@
+package org.reactivestreams.benchmark;
+
+import io.reactivex.Observable;
+import io.reactivex.marble.ColdObservable;
+import io.reactivex.marble.HotObservable;
+import io.reactivex.marble.MarbleScheduler;
+import org.reactivestreams.Parser;
+import org.reactivestreams.Recorded;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RxJava2 scenario, sources with a subscription point '^' are hot, other ones are cold.
+ * Diagrams are parsed once, replays only measure the pipeline and the scheduler.
+ * A scenario keeps its scheduler, it should not be replayed concurrently.
+ */
+public class ObservableScenario implements IMarbleScenario {
+
+    private static final long FRAME_TIME_FACTOR = 10;
+
+    private final MarbleScheduler scheduler = new MarbleScheduler(FRAME_TIME_FACTOR);
+    private final IObservablePipelineFactory factory;
+    private final List<Recorded<String>> expected;
+    private final List<List<Recorded<String>>> sources;
+    private final boolean[] hot;
+
+    public ObservableScenario(IObservablePipelineFactory factory, String expected, String... sources) {
+        this.factory = factory;
+        this.expected = Parser.parseMarbles(expected, FRAME_TIME_FACTOR);
+        this.sources = new ArrayList<>(sources.length);
+        this.hot = new boolean[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            this.sources.add(Parser.parseMarbles(sources[i], FRAME_TIME_FACTOR));
+            hot[i] = sources[i].indexOf('^') != -1;
+        }
+    }
+
+    @Override
+    public void verify() {
+        scheduler.reset();
+        scheduler.expectObservable(createPipeline()).toBe(expected);
+        scheduler.flush();
+    }
+
+    @Override
+    public int replay() {
+        scheduler.reset();
+        List<Recorded<?>> timeline = new ArrayList<>();
+        scheduler.expectObservable(createPipeline()).captureInto(timeline);
+        scheduler.flush();
+        return timeline.size();
+    }
+
+    private Observable<?> createPipeline() {
+        List<Observable<String>> observables = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            if (hot[i]) {
+                observables.add(HotObservable.create(scheduler, sources.get(i)));
+            } else {
+                observables.add(ColdObservable.create(scheduler, sources.get(i)));
+            }
+        }
+        return factory.create(observables, scheduler);
+    }
+}
@@ -0,0 +1,26 @@
+package org.reactivestreams.benchmark;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MarbleScenariosTest {
+
+    @Test
+    public void should_verify_every_benchmarked_scenario() throws NoSuchFieldException {
+        String[] scenarios = MarbleBenchmark.class.getField("scenario")
+                .getAnnotation(org.openjdk.jmh.annotations.Param.class).value();
+
+        for (String scenario : scenarios) {
+            MarbleScenarios.create(scenario).verify();
+        }
+    }
+
+    @Test
+    public void should_count_events_of_each_replay() {
+        IMarbleScenario scenario = MarbleScenarios.create(MarbleScenarios.MERGE);
+
+        assertThat(scenario.replay()).isEqualTo(501);
+        assertThat(scenario.replay()).isEqualTo(501);
+    }
+}
@@ -0,0 +1,35 @@
+package org.reactivestreams;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Notifications sent by a stream before a given frame, captured once so that the work needed to produce them
+ * is not repeated by every test sharing this prefix.
+ * <p>
+ * Operator states cannot be copied, a checkpoint only keeps the output of the prefix. Each fork replays this
+ * output on another scheduler, at the original times, to feed the stages that differ from one test to another.
+ */
+public final class Checkpoint<T> {
+
+    private final long frame;
+    private final List<Recorded<T>> timeline;
+
+    public Checkpoint(long frame, List<Recorded<T>> timeline) {
+        this.frame = frame;
+        this.timeline = Collections.unmodifiableList(timeline);
+    }
+
+    public long getFrame() {
+        return frame;
+    }
+
+    public List<Recorded<T>> getTimeline() {
+        return timeline;
+    }
+
+    @Override
+    public String toString() {
+        return "checkpoint at frame " + frame;
+    }
+}
@@ -30,10 +30,12 @@ public class ColdPublisher<T> implements TestablePublisher<T> {
             scheduler.schedule(new Runnable() {
                 @Override
                 public void run() {
+                    Object dispatch = FlightRecorder.beginDispatch();
                     event.value.accept(observer);
                     if (!event.value.isOnNext()) {
-                        endSubscriptions(event.time);
+                        endSubscription(subscriptionIndex, scheduler.now(TimeUnit.MILLISECONDS));
                     }
+                    FlightRecorder.endDispatch(dispatch, event.time, 1, false);
                 }
             }, event.time, TimeUnit.MILLISECONDS);
         }
@@ -60,12 +62,11 @@ public class ColdPublisher<T> implements TestablePublisher<T> {
         });
     }
 
-    private void endSubscriptions(long time) {
-        for (int i = 0; i < subscriptions.size(); i++) {
-            SubscriptionLog subscription = subscriptions.get(i);
-            if (subscription.doesNeverEnd()) {
-                subscriptions.set(i, new SubscriptionLog(subscription.subscribe, time));
-            }
+    private void endSubscription(int index, long time) {
+        // each subscription to a cold source gets its own notifications, at times relative to its start
+        SubscriptionLog subscription = subscriptions.get(index);
+        if (subscription.doesNeverEnd()) {
+            subscriptions.set(index, new SubscriptionLog(subscription.subscribe, time));
         }
     }
 
@@ -0,0 +1,82 @@
+package org.reactivestreams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a {@link DifferentialRunner} run: timeline differences with the reference implementation,
+ * then CPU time and allocated memory per implementation. Unsupported measures are reported as -1.
+ * Timelines are compared as multisets, an event emitted twice in a frame by a single implementation is a difference.
+ */
+public class DifferentialReport {
+
+    private final List<LibraryResult> results;
+    private final List<RecordedStreamComparator.StreamComparison> comparisons;
+
+    DifferentialReport(List<LibraryResult> results) {
+        this.results = Collections.unmodifiableList(results);
+        this.comparisons = new ArrayList<>(results.size());
+        RecordedStreamComparator comparator = new RecordedStreamComparator();
+        List<Recorded<?>> reference = results.get(0).timeline;
+        for (LibraryResult result : results) {
+            comparisons.add(comparator.compare(result.timeline, reference));
+        }
+    }
+
+    public List<LibraryResult> getResults() {
+        return results;
+    }
+
+    public boolean isConsistent() {
+        for (RecordedStreamComparator.StreamComparison comparison : comparisons) {
+            if (!comparison.streamEquals) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @throws ExpectPublisherException when a timeline differs from the one of the reference implementation
+     */
+    public void assertConsistent() {
+        if (!isConsistent()) {
+            String caller = ExceptionHelper.findCallerInStackTrace(DifferentialReport.class);
+            throw new ExpectPublisherException(toString(), caller);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String reference = results.get(0).library;
+        for (int i = 1; i < results.size(); i++) {
+            RecordedStreamComparator.StreamComparison comparison = comparisons.get(i);
+            builder.append(results.get(i).library).append(" compared to ").append(reference).append(": ");
+            builder.append(comparison.streamEquals ? "same timeline" : comparison.toString()).append('\n');
+        }
+        builder.append(String.format("%n%-20s %15s %18s%n", "Library", "CPU time (us)", "Allocated (bytes)"));
+        for (LibraryResult result : results) {
+            builder.append(String.format("%-20s %15d %18d%n",
+                    result.library,
+                    result.cpuNanos < 0 ? -1 : result.cpuNanos / 1000,
+                    result.allocatedBytes));
+        }
+        return builder.toString();
+    }
+
+    public static class LibraryResult {
+        public final String library;
+        public final List<Recorded<?>> timeline;
+        public final long cpuNanos;
+        public final long allocatedBytes;
+
+        LibraryResult(String library, List<Recorded<?>> timeline, long cpuNanos, long allocatedBytes) {
+            this.library = library;
+            this.timeline = timeline;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
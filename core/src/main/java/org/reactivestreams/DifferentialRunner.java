@@ -0,0 +1,85 @@
+package org.reactivestreams;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feeds the same marble diagrams to several implementations of a pipeline, compares their timelines with
+ * the one of the first implementation and measures the CPU time and the memory allocated by each of them.
+ */
+public class DifferentialRunner {
+
+    private final Map<String, IDifferentialPipeline> pipelines = new LinkedHashMap<>();
+    private int warmupIterations = 0;
+    private int iterations = 1;
+
+    /**
+     * Adds an implementation, the first one added is the reference.
+     */
+    public DifferentialRunner add(String library, IDifferentialPipeline pipeline) {
+        pipelines.put(library, pipeline);
+        return this;
+    }
+
+    /**
+     * Sets how many times each pipeline is run before being measured, to warm up the JIT, none by default.
+     */
+    public DifferentialRunner withWarmup(int warmupIterations) {
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("Invalid number of warm up runs " + warmupIterations);
+        }
+        this.warmupIterations = warmupIterations;
+        return this;
+    }
+
+    /**
+     * Sets how many times each pipeline is run and measured after the warm up, 1 by default. Measures are averaged.
+     */
+    public DifferentialRunner withIterations(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Pipelines should run at least once, found " + iterations);
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    public DifferentialReport run(String... marbles) {
+        if (pipelines.isEmpty()) {
+            throw new IllegalStateException("No pipeline to run");
+        }
+        List<DifferentialReport.LibraryResult> results = new ArrayList<>(pipelines.size());
+        for (Map.Entry<String, IDifferentialPipeline> entry : pipelines.entrySet()) {
+            List<Recorded<?>> timeline = null;
+            long cpuNanos = 0;
+            long allocatedBytes = 0;
+            for (int i = 0; i < warmupIterations; i++) {
+                entry.getValue().run(marbles.clone());
+            }
+            for (int i = 0; i < iterations; i++) {
+                long cpuStart = ResourceMeter.cpuNanos();
+                long allocationStart = ResourceMeter.allocatedBytes();
+                List<Recorded<?>> recorded;
+                ResourceMeter.setMeasured(true);
+                try {
+                    recorded = entry.getValue().run(marbles.clone());
+                } finally {
+                    ResourceMeter.setMeasured(false);
+                }
+                cpuNanos += ResourceMeter.cpuNanos() - cpuStart;
+                allocatedBytes += ResourceMeter.allocatedBytes() - allocationStart;
+                if (timeline == null) {
+                    timeline = recorded;
+                }
+            }
+            results.add(new DifferentialReport.LibraryResult(
+                    entry.getKey(),
+                    timeline,
+                    ResourceMeter.cpuNanos() < 0 ? -1 : cpuNanos / iterations,
+                    ResourceMeter.allocatedBytes() < 0 ? -1 : allocatedBytes / iterations
+            ));
+        }
+        return new DifferentialReport(results);
+    }
+}
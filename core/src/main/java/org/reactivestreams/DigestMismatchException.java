@@ -0,0 +1,15 @@
+package org.reactivestreams;
+
+/**
+ * Thrown on flush when the digest of a recorded stream differs from the one of its expected diagram.
+ * The test has to be run again without digest recording to get the differences.
+ */
+public class DigestMismatchException extends RuntimeException {
+
+    public DigestMismatchException(String caller) {
+        super("Recorded notifications do not match the expected ones, "
+                + "run the test without digest recording to get the differences"
+                + "\n\n from assertion at " + caller + "\n\n----------------------\n");
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.reactivestreams;
+
+/**
+ * Runs a test with digest recording and, when a digest does not match, runs it again with a full recording so that
+ * the differences get reported. Virtual time makes the replay deterministic.
+ */
+public final class DigestReplay {
+
+    private DigestReplay() {
+    }
+
+    /**
+     * Runs the given test then flushes the scheduler. A {@link DigestMismatchException} thrown by the test itself,
+     * when it flushes the scheduler, or by the final flush triggers the replay.
+     */
+    public static void run(IScheduler scheduler, boolean digestRecording, ITest test) throws Throwable {
+        scheduler.setDigestRecording(digestRecording);
+        try {
+            test.run();
+            scheduler.flush();
+        } catch (DigestMismatchException ex) {
+            scheduler.reset();
+            scheduler.setDigestRecording(false);
+            test.run();
+            scheduler.flush();
+        }
+    }
+
+    /**
+     * A marble scheduler that can be reset and replayed.
+     */
+    public interface IScheduler {
+        void setDigestRecording(boolean digestRecording);
+        void reset();
+        void flush();
+    }
+
+    public interface ITest {
+        void run() throws Throwable;
+    }
+}
@@ -0,0 +1,35 @@
+package org.reactivestreams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown on flush when several expectations fail, gathering all of them
+ * so that every diff can be read after a single run.
+ */
+public class ExpectationsFailedException extends RuntimeException {
+
+    private final List<RuntimeException> failures;
+
+    public ExpectationsFailedException(List<RuntimeException> failures) {
+        super(buildMessage(failures));
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+        for (RuntimeException failure : failures) {
+            addSuppressed(failure);
+        }
+    }
+
+    public List<RuntimeException> getFailures() {
+        return failures;
+    }
+
+    private static String buildMessage(List<RuntimeException> failures) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(failures.size()).append(" expectations failed\n");
+        for (int i = 0; i < failures.size(); i++) {
+            builder.append("\n#").append(i + 1).append(" ").append(failures.get(i).getMessage());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package org.reactivestreams;
+
+/**
+ * Emits Java Flight Recorder events when the system property <i>marbletest4j.jfr</i> is set to true and the
+ * <i>marbletest4j-jfr</i> module is on the classpath of a JVM providing the jdk.jfr API. Otherwise, the default,
+ * every method is a no-op. The core does not depend on jdk.jfr, the event types are loaded by reflection.
+ */
+final class FlightRecorder {
+
+    static final String EVENTS_CLASS = "org.reactivestreams.jfr.JfrFlightEvents";
+
+    static final IFlightEvents EVENTS = Boolean.getBoolean("marbletest4j.jfr") ? load(EVENTS_CLASS) : null;
+
+    static final boolean ENABLED = EVENTS != null;
+
+    private FlightRecorder() {
+    }
+
+    static IFlightEvents load(String className) {
+        try {
+            return (IFlightEvents) Class.forName(className).newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            // the module is missing or the JVM has no Flight Recorder
+            return null;
+        }
+    }
+
+    static Object beginFlush() {
+        return ENABLED ? EVENTS.beginFlush() : null;
+    }
+
+    static void endFlush(Object event, long time, int expectations, int failures) {
+        if (event != null) {
+            EVENTS.endFlush(event, time, expectations, failures);
+        }
+    }
+
+    static Object beginDispatch() {
+        return ENABLED ? EVENTS.beginDispatch() : null;
+    }
+
+    static void endDispatch(Object event, long time, int subscribers, boolean hot) {
+        if (event != null) {
+            EVENTS.endDispatch(event, time, subscribers, hot);
+        }
+    }
+
+    static Object beginComparison() {
+        return ENABLED ? EVENTS.beginComparison() : null;
+    }
+
+    static void endComparison(Object event, int actualSize, int expectedSize, boolean equal) {
+        if (event != null) {
+            EVENTS.endComparison(event, actualSize, expectedSize, equal);
+        }
+    }
+}
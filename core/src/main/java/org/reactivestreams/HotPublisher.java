@@ -8,7 +8,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * Created by Alexandre Victoor on 18/04/2017.
  */
-public class HotPublisher<T> implements Publisher<T>, TestablePublisher<T> {
+public class HotPublisher<T> implements Publisher<T>, TestablePublisher<T>, IRetainingPublisher {
 
     private final List<Recorded<T>> notifications;
     private final List<Subscriber<? super T>> observers = new ArrayList<>();
@@ -26,12 +26,19 @@ public class HotPublisher<T> implements Publisher<T>, TestablePublisher<T> {
             scheduler.schedule(new Runnable() {
                 @Override
                 public void run() {
-                    for (Subscriber<? super T> observer : new ArrayList<>(observers)){
+                    Object dispatch = FlightRecorder.beginDispatch();
+                    List<Subscriber<? super T>> currentObservers = new ArrayList<>(observers);
+                    if (!event.value.isOnNext()) {
+                        // terminated subscribers must not be retained, along with their operator chains
+                        observers.clear();
+                    }
+                    for (Subscriber<? super T> observer : currentObservers){
                         event.value.accept(observer);
-                        if (!event.value.isOnNext()) {
-                            endSubscriptions(event.time);
-                        }
                     }
+                    if (!event.value.isOnNext() && !currentObservers.isEmpty()) {
+                        endSubscriptions(event.time);
+                    }
+                    FlightRecorder.endDispatch(dispatch, event.time, currentObservers.size(), true);
                 }
             }, event.time, TimeUnit.MILLISECONDS);
         }
@@ -72,6 +79,15 @@ public class HotPublisher<T> implements Publisher<T>, TestablePublisher<T> {
         });
     }
 
+    int getRetainedSubscriberCount() {
+        return observers.size();
+    }
+
+    @Override
+    public List<Object> getRetainedSubscribers() {
+        return new ArrayList<Object>(observers);
+    }
+
     @Override
     public List<SubscriptionLog> getSubscriptions() {
         return Collections.unmodifiableList(subscriptions);
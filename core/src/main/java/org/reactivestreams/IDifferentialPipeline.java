@@ -0,0 +1,13 @@
+package org.reactivestreams;
+
+import java.util.List;
+
+/**
+ * One implementation of a pipeline under differential test, typically built with the marble scheduler
+ * of a given reactive library. Each run should use a new scheduler, flush it and return the captured timeline.
+ */
+public interface IDifferentialPipeline {
+
+    List<Recorded<?>> run(String... marbles);
+
+}
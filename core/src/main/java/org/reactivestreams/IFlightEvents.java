@@ -0,0 +1,21 @@
+package org.reactivestreams;
+
+/**
+ * Emits Java Flight Recorder events, implemented by the optional <i>marbletest4j-jfr</i> module.
+ * Each begin method returns an opaque event handed back to the matching end method.
+ */
+public interface IFlightEvents {
+
+    Object beginFlush();
+
+    void endFlush(Object event, long time, int expectations, int failures);
+
+    Object beginDispatch();
+
+    void endDispatch(Object event, long time, int subscribers, boolean hot);
+
+    Object beginComparison();
+
+    void endComparison(Object event, int actualSize, int expectedSize, boolean equal);
+
+}
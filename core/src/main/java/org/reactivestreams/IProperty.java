@@ -0,0 +1,11 @@
+package org.reactivestreams;
+
+/**
+ * A property checked against generated marble diagrams. A property fails by throwing an exception or an
+ * assertion error, typically when the expectations of its own marble scheduler are not met on flush.
+ */
+public interface IProperty {
+
+    void check(String... marbles);
+
+}
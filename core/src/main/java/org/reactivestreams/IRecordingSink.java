@@ -0,0 +1,15 @@
+package org.reactivestreams;
+
+/**
+ * Receives the notifications recorded from a stream, either to keep them or only to digest them.
+ */
+interface IRecordingSink {
+
+    void add(Recorded<?> message);
+
+    /**
+     * @return the number of notifications received so far
+     */
+    int size();
+
+}
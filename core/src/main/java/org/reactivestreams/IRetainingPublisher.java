@@ -0,0 +1,15 @@
+package org.reactivestreams;
+
+import java.util.List;
+
+/**
+ * A test source keeping references on its subscribers until they cancel or get a terminal event.
+ */
+public interface IRetainingPublisher {
+
+    /**
+     * @return the subscribers currently referenced, in subscription order
+     */
+    List<Object> getRetainedSubscribers();
+
+}
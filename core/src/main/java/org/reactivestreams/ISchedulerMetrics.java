@@ -0,0 +1,64 @@
+package org.reactivestreams;
+
+/**
+ * Instrumentation of a marble scheduler. Callbacks are made while the virtual clock runs, implementations
+ * should be cheap. {@link #NONE}, the default, ignores everything.
+ */
+public interface ISchedulerMetrics {
+
+    ISchedulerMetrics NONE = new ISchedulerMetrics() {
+        @Override
+        public void actionScheduled(int pendingActions) {
+        }
+
+        @Override
+        public void actionExecuted(long frame) {
+        }
+
+        @Override
+        public void actionCancelled(long frame) {
+        }
+
+        @Override
+        public void timeAdvanced(long wallNanos) {
+        }
+
+        @Override
+        public void subscriptionsCreated(int subscriptions) {
+        }
+
+        @Override
+        public void notificationsRecorded(int notifications) {
+        }
+    };
+
+    /**
+     * @param pendingActions number of actions waiting in the scheduler, including this one
+     */
+    void actionScheduled(int pendingActions);
+
+    void actionExecuted(long frame);
+
+    /**
+     * Called when a pending action gets cancelled, whether or not the clock reaches its frame afterwards.
+     */
+    void actionCancelled(long frame);
+
+    /**
+     * Called once the clock has been advanced, with the wall clock time it took.
+     */
+    void timeAdvanced(long wallNanos);
+
+    /**
+     * Called on flush with the number of subscriptions made to the test sources of the scheduler since the
+     * previous flush.
+     */
+    void subscriptionsCreated(int subscriptions);
+
+    /**
+     * Called on flush with the number of notifications recorded from the streams under test, inner streams
+     * included, since the previous flush.
+     */
+    void notificationsRecorded(int notifications);
+
+}
@@ -0,0 +1,28 @@
+package org.reactivestreams;
+
+
+import java.util.List;
+
+public interface ISetupSubscriptionsTest {
+
+    /**
+     * Matches subscriptions whatever their order, after sorting both sides by subscription then unsubscription
+     * time. Only the subscriptions without counterpart are reported.
+     */
+    ISetupSubscriptionsTest inAnyOrder();
+
+    void toBe(String... marbles);
+
+    void toBe(List<SubscriptionLog> subscriptions);
+
+    /**
+     * Expects subscription diagrams parsed at compile time, see {@link MarbleDiagram}.
+     */
+    void toBe(PrecomputedMarbles marbles, PrecomputedMarbles... otherMarbles);
+
+    /**
+     * Expects the subscription of a diagram such as "^--!" to occur the given number of times, each occurrence
+     * starting the given number of frames after the previous one.
+     */
+    void toBeRepeated(String marble, int times, long everyFrames);
+}
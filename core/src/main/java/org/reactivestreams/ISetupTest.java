@@ -0,0 +1,60 @@
+package org.reactivestreams;
+
+
+import java.util.List;
+import java.util.Map;
+
+public interface ISetupTest {
+
+    /**
+     * Restricts the expectation to the events occurring from a frame, included, to another one, excluded.
+     * Other events are discarded as soon as they are recorded, and expected diagrams start at the first frame.
+     */
+    ISetupTest between(long fromFrame, long toFrame);
+
+    /**
+     * Accepts events occurring up to the given number of frames before or after their expected time.
+     * Failure reports show how far off each matched event was.
+     */
+    ISetupTest withTolerance(long toleranceFrames);
+
+    void toBe(String marble,
+              Map<String, ?> values,
+              Exception errorValue);
+
+    void toBe(String marble,
+              Map<String, ?> values);
+
+    void toBe(String marble);
+
+    void toBe(List<? extends Recorded<?>> timeline);
+
+    /**
+     * Expects a diagram parsed at compile time, see {@link MarbleDiagram}, using the frame time factor of
+     * the scheduler.
+     */
+    void toBe(PrecomputedMarbles marbles,
+              Map<String, ?> values,
+              Exception errorValue);
+
+    void toBe(PrecomputedMarbles marbles,
+              Map<String, ?> values);
+
+    void toBe(PrecomputedMarbles marbles);
+
+    /**
+     * Checks nothing, the notifications recorded are added to the given timeline on flush.
+     */
+    void captureInto(List<Recorded<?>> timeline);
+
+    /**
+     * Checks that no window of the given number of frames holds more than count values.
+     */
+    void toEmitAtMost(int count, long windowFrames);
+
+    /**
+     * Checks that every window of the given number of frames, until the last event, holds at least count values.
+     */
+    void toEmitAtLeast(int count, long windowFrames);
+
+}
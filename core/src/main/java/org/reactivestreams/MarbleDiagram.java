@@ -0,0 +1,22 @@
+package org.reactivestreams;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a String constant holding a marble diagram. With the marbletest4j-processor annotation processor,
+ * the diagram is checked at compile time and parsed into a {@link PrecomputedMarbles} constant of the same name,
+ * in a generated class named after the top level class followed by <i>Marbles</i>.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface MarbleDiagram {
+
+    /**
+     * True for subscription diagrams, made of '^' and '!' markers.
+     */
+    boolean subscription() default false;
+
+}
@@ -0,0 +1,145 @@
+package org.reactivestreams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates random marble diagrams, with gaps, values, groups of simultaneous values and an optional
+ * completion or error. The same seed always produces the same diagrams.
+ */
+public class MarbleGenerator {
+
+    private final long seed;
+    private final Random random;
+    private String alphabet = "abcde";
+    private int maxFrames = 20;
+    private boolean hot = false;
+
+    public MarbleGenerator(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return a generator with the same settings and another seed
+     */
+    MarbleGenerator withSeed(long seed) {
+        MarbleGenerator generator = new MarbleGenerator(seed);
+        generator.alphabet = alphabet;
+        generator.maxFrames = maxFrames;
+        generator.hot = hot;
+        return generator;
+    }
+
+    /**
+     * Sets the characters used as values, 'abcde' by default.
+     */
+    public MarbleGenerator withValues(String alphabet) {
+        if (alphabet.isEmpty() || alphabet.matches(".*[-()|#^! ].*")) {
+            throw new IllegalArgumentException("Invalid value characters '" + alphabet + "'");
+        }
+        this.alphabet = alphabet;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of frames of generated diagrams, 20 by default.
+     */
+    public MarbleGenerator withMaxFrames(int maxFrames) {
+        if (maxFrames < 1) {
+            throw new IllegalArgumentException("Diagrams should last at least one frame, found " + maxFrames);
+        }
+        this.maxFrames = maxFrames;
+        return this;
+    }
+
+    /**
+     * Generates hot diagrams, with a subscription point '^'.
+     */
+    public MarbleGenerator hot() {
+        this.hot = true;
+        return this;
+    }
+
+    public String next() {
+        StringBuilder builder = new StringBuilder(maxFrames + 4);
+        int frames = 1 + random.nextInt(maxFrames);
+        int subscriptionFrame = hot ? random.nextInt(frames) : -1;
+        for (int frame = 0; frame < frames - 1; frame++) {
+            if (frame == subscriptionFrame) {
+                builder.append('^');
+                continue;
+            }
+            int dice = random.nextInt(10);
+            if (dice < 5) {
+                builder.append('-');
+            } else if (dice < 9) {
+                builder.append(randomValue());
+            } else {
+                builder.append('(');
+                int size = 2 + random.nextInt(2);
+                for (int i = 0; i < size; i++) {
+                    builder.append(randomValue());
+                }
+                builder.append(')');
+            }
+        }
+        if (subscriptionFrame == frames - 1) {
+            builder.append('^');
+        } else {
+            int dice = random.nextInt(10);
+            builder.append(dice < 6 ? '|' : (dice < 8 ? '#' : '-'));
+        }
+        return builder.toString();
+    }
+
+    private char randomValue() {
+        return alphabet.charAt(random.nextInt(alphabet.length()));
+    }
+
+    /**
+     * Lists diagrams simpler than the given one, first the ones with a frame or a grouped value less, then the ones
+     * with an event replaced by a gap. Subscription points are kept.
+     */
+    public static List<String> shrink(String marbles) {
+        List<int[]> units = new ArrayList<>();
+        int start = 0;
+        while (start < marbles.length()) {
+            int end = marbles.charAt(start) == '(' ? marbles.indexOf(')', start) + 1 : start + 1;
+            if (end == 0) {
+                end = marbles.length();
+            }
+            units.add(new int[]{start, end});
+            start = end;
+        }
+
+        List<String> removals = new ArrayList<>();
+        List<String> replacements = new ArrayList<>();
+        for (int[] unit : units) {
+            char c = marbles.charAt(unit[0]);
+            if (c == '^') {
+                continue;
+            }
+            String before = marbles.substring(0, unit[0]);
+            String after = marbles.substring(unit[1]);
+            removals.add(before + after);
+            if (c == '(') {
+                String group = marbles.substring(unit[0] + 1, unit[1] - 1);
+                for (int i = 0; i < group.length(); i++) {
+                    String rest = group.substring(0, i) + group.substring(i + 1);
+                    removals.add(before + (rest.length() == 1 ? rest : "(" + rest + ")") + after);
+                }
+            }
+            if (c != '-') {
+                replacements.add(before + '-' + after);
+            }
+        }
+        removals.addAll(replacements);
+        return removals;
+    }
+}
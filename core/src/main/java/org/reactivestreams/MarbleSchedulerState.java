@@ -0,0 +1,810 @@
+package org.reactivestreams;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Created by Alexandre Victoor on 23/04/2017.
+ */
+public class MarbleSchedulerState {
+
+    private static final ForkJoinPool FLUSH_POOL = new ForkJoinPool();
+
+    private static final Comparator<SubscriptionLog> BY_INTERVAL = new Comparator<SubscriptionLog>() {
+        @Override
+        public int compare(SubscriptionLog first, SubscriptionLog second) {
+            if (first.subscribe != second.subscribe) {
+                return first.subscribe < second.subscribe ? -1 : 1;
+            }
+            return first.unsubscribe < second.unsubscribe ? -1 : (first.unsubscribe == second.unsubscribe ? 0 : 1);
+        }
+    };
+
+    private final List<ITestOnFlush> flushTests = new ArrayList<>();
+    private final List<TrackedSource> sources = new ArrayList<>();
+    private final long frameTimeFactor;
+    protected final ISchedule scheduler;
+    private final Class schedulerClass;
+    private int innerStreamDepth = 1;
+    private boolean digestMatchingInnerStreams = true;
+    private boolean digestRecording = false;
+    private Recorder emittingRecorder;
+    private ISchedulerMetrics metrics = ISchedulerMetrics.NONE;
+    private int reportedSubscriptions;
+    private int recordedNotifications;
+    private int reportedNotifications;
+    private int failureCount;
+
+    public MarbleSchedulerState(long frameTimeFactor, ISchedule scheduler, Class schedulerClass) {
+
+        this.frameTimeFactor = frameTimeFactor;
+        this.scheduler = scheduler;
+        this.schedulerClass = schedulerClass;
+    }
+
+
+    public void flush() {
+        Object event = FlightRecorder.beginFlush();
+        try {
+            evaluateExpectations();
+        } finally {
+            FlightRecorder.endFlush(event, scheduler.now(), flushTests.size(), failureCount);
+        }
+    }
+
+    private void evaluateExpectations() {
+        failureCount = 0;
+        if (metrics != ISchedulerMetrics.NONE) {
+            int subscriptions = 0;
+            for (TrackedSource tracked : sources) {
+                subscriptions += tracked.source.getSubscriptions().size();
+            }
+            // a scheduler can be flushed several times, only new subscriptions are reported
+            metrics.subscriptionsCreated(subscriptions - reportedSubscriptions);
+            reportedSubscriptions = subscriptions;
+            metrics.notificationsRecorded(recordedNotifications - reportedNotifications);
+            reportedNotifications = recordedNotifications;
+        }
+        final List<FlushTask> tasks = new ArrayList<>();
+        for (ITestOnFlush test: flushTests) {
+            if (test.isReady()) {
+                tasks.add(new FlushTask(test));
+            }
+        }
+        if (tasks.size() > 1 && !ResourceMeter.isMeasured()) {
+            // virtual time is over, recordings are not mutated anymore and can be compared concurrently,
+            // unless the resources used by the current thread are measured
+            FLUSH_POOL.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        } else {
+            for (FlushTask task : tasks) {
+                task.compute();
+            }
+        }
+        // failures are reported in registration order, whatever the completion order
+        List<RuntimeException> failures = new ArrayList<>();
+        for (FlushTask task : tasks) {
+            if (task.failure != null) {
+                failures.add(task.failure);
+            }
+        }
+        failureCount = failures.size();
+        for (RuntimeException failure : failures) {
+            if (failure instanceof DigestMismatchException) {
+                // a full recording is needed to report anything meaningful
+                throw failure;
+            }
+        }
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            throw new ExpectationsFailedException(failures);
+        }
+    }
+
+    /**
+     * Keeps a reference on a test source so that its subscriptions can be checked for leaks once the test is over.
+     */
+    public <S extends TestablePublisher<?>> S track(S source, String marbles, boolean hot) {
+        sources.add(new TrackedSource(source, marbles, hot));
+        return source;
+    }
+
+    /**
+     * Lists the subscriptions to test sources that were neither cancelled nor terminated.
+     * When a source still references the subscriber of such a subscription, the subscriber is described along with
+     * the downstream subscribers it references in turn.
+     */
+    public List<String> findLeaks() {
+        List<String> leaks = new ArrayList<>();
+        for (TrackedSource tracked : sources) {
+            // subscribers are released when their subscription ends, those left match open subscriptions in order
+            List<Object> retained = tracked.source instanceof IRetainingPublisher
+                    ? ((IRetainingPublisher) tracked.source).getRetainedSubscribers()
+                    : Collections.<Object>emptyList();
+            int index = 0;
+            for (SubscriptionLog subscription : tracked.source.getSubscriptions()) {
+                if (subscription.doesNeverEnd()) {
+                    String leak = (tracked.hot ? "Hot" : "Cold") + " source \"" + tracked.marbles
+                            + "\" has a subscription started at " + subscription.subscribe
+                            + " that was never cancelled nor terminated";
+                    if (index < retained.size()) {
+                        leak += ", the source still references " + SubscriberChain.describe(retained.get(index++));
+                    }
+                    leaks.add(leak);
+                }
+            }
+        }
+        return leaks;
+    }
+
+    public <T> ISetupTest expectPublisher(Publisher<T> publisher, String unsubscriptionMarbles) {
+        return expect(publisherSource(publisher), unsubscriptionMarbles);
+    }
+
+    private static <T> IExpectSource publisherSource(final Publisher<T> publisher) {
+        return new IExpectSource() {
+            @Override
+            public ICancel subscribe(Recorder recorder) {
+                SubscriberForExpect<T> subscriber = new SubscriberForExpect<>(recorder);
+                publisher.subscribe(subscriber);
+                return subscriber;
+            }
+        };
+    }
+
+    public ISetupTest expect(IExpectSource source, String unsubscriptionMarbles) {
+        String caller = ExceptionHelper.findCallerInStackTrace(schedulerClass, MarbleSchedulerState.class);
+        final FlushableTest flushTest = new FlushableTest(caller, digestRecording);
+        long unsubscriptionFrame = Long.MAX_VALUE;
+
+        if (unsubscriptionMarbles != null) {
+            unsubscriptionFrame
+                    = Parser.parseMarblesAsSubscriptions(unsubscriptionMarbles, frameTimeFactor).unsubscribe;
+        }
+        final ICancel subscription = source.subscribe(new Recorder(flushTest, 0, 0) {
+            @Override
+            List<?> expected() {
+                return flushTest.expected;
+            }
+
+            @Override
+            boolean accepts(long time) {
+                return flushTest.isInWindow(time);
+            }
+        });
+
+        if (unsubscriptionFrame != Long.MAX_VALUE) {
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    subscription.cancel();
+                }
+            }, unsubscriptionFrame);
+        }
+
+        flushTests.add(flushTest);
+
+        return new SetupTest(flushTest, frameTimeFactor);
+    }
+
+    /**
+     * Records the notifications of a stream as the virtual clock runs, to build a {@link Checkpoint} later on.
+     * Inner streams are kept as they are, so that they can be emitted again.
+     */
+    public List<Recorded<?>> record(IExpectSource source) {
+        final List<Recorded<?>> timeline = new ArrayList<>();
+        // at the maximum depth, values are recorded without being materialized
+        source.subscribe(new Recorder(new ListSink(timeline), 0, innerStreamDepth) {
+            @Override
+            List<?> expected() {
+                return null;
+            }
+        });
+        return timeline;
+    }
+
+    public List<Recorded<?>> recordPublisher(Publisher<?> publisher) {
+        return record(publisherSource(publisher));
+    }
+
+    /**
+     * Keeps the recorded notifications sent before the given frame, once the clock has been advanced to this frame.
+     */
+    public <T> Checkpoint<T> checkpoint(List<Recorded<?>> timeline, long frame) {
+        long time = frame * frameTimeFactor;
+        List<Recorded<T>> prefix = new ArrayList<>(timeline.size());
+        for (Recorded<?> message : timeline) {
+            if (message.time < time) {
+                prefix.add((Recorded<T>) message);
+            }
+        }
+        return new Checkpoint<>(frame, prefix);
+    }
+
+    /**
+     * When enabled, streams under test are not recorded, only a digest of their notifications is kept.
+     * Memory used by passing tests stays constant, but failing tests only report a {@link DigestMismatchException}.
+     */
+    public void setDigestRecording(boolean digestRecording) {
+        this.digestRecording = digestRecording;
+    }
+
+    /**
+     * Sets the instrumentation notified on flush of the subscriptions to test sources and of the recorded notifications.
+     */
+    public void setMetrics(ISchedulerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Forgets every expectation and tracked source, so that a test can be replayed from scratch.
+     */
+    public void reset() {
+        flushTests.clear();
+        sources.clear();
+        reportedSubscriptions = 0;
+        recordedNotifications = 0;
+        reportedNotifications = 0;
+    }
+
+    /**
+     * Sets how many levels of nested streams get materialized, 1 by default.
+     * Deeper streams are compared as plain values.
+     */
+    public void setInnerStreamDepth(int innerStreamDepth) {
+        if (innerStreamDepth < 0) {
+            throw new IllegalArgumentException("Inner stream depth should not be negative, found " + innerStreamDepth);
+        }
+        this.innerStreamDepth = innerStreamDepth;
+    }
+
+    /**
+     * When enabled, the default, inner streams are compared to the expected ones while being recorded,
+     * and matching inner streams only keep the number of notifications they have in common with their expectation.
+     * When disabled, every notification of every inner stream is buffered.
+     */
+    public void setDigestMatchingInnerStreams(boolean digestMatchingInnerStreams) {
+        this.digestMatchingInnerStreams = digestMatchingInnerStreams;
+    }
+
+    protected List<Recorded<Object>> materializeInnerPublisher(Publisher publisher, ISchedule clock) {
+        return materializeInnerStream(publisherSource(publisher));
+    }
+
+    protected List<Recorded<Object>> materializeInnerStream(IExpectSource source) {
+        // the recorder receiving the inner stream gives the expectation of this stream, when there is one
+        Recorder outer = emittingRecorder;
+        final MaterializedStream messages = new MaterializedStream(
+                digestMatchingInnerStreams && outer != null ? outer.expectedInnerStream() : null
+        );
+        int depth = outer == null ? 1 : outer.depth + 1;
+        source.subscribe(new Recorder(new ListSink((List) messages), scheduler.now(), depth) {
+            @Override
+            List<?> expected() {
+                return messages.getExpected();
+            }
+        });
+        return messages;
+    }
+
+    // Hack to be able to handle rxjava's observables in flowables
+    protected Object materializeInnerStreamWhenNeeded(Object value) {
+        if (value instanceof Publisher) {
+            return materializeInnerPublisher((Publisher) value, scheduler);
+        }
+        return value;
+    }
+
+    private List<?> materializeExpected(List<? extends Recorded<?>> messages, int depth) {
+        if (depth == 0) {
+            return messages;
+        }
+        List<Recorded<?>> materialized = new ArrayList<>(messages.size());
+        for (Recorded<?> message : messages) {
+            Object value = message.value.getValue();
+            if (message.value.isOnNext() && value instanceof TestablePublisher) {
+                List<? extends Recorded<?>> innerMessages = ((TestablePublisher<?>) value).getMessages();
+                Object innerStream = materializeExpected(innerMessages, depth - 1);
+                materialized.add(new Recorded<>(message.time, Notification.createOnNext(innerStream)));
+            } else {
+                materialized.add(message);
+            }
+        }
+        return materialized;
+    }
+
+    /**
+     * Records the notifications of a stream under test, whatever its reactive library and type.
+     */
+    public abstract class Recorder {
+        private final IRecordingSink sink;
+        private final long outerFrame;
+        private final int depth;
+
+        Recorder(IRecordingSink sink, long outerFrame, int depth) {
+            this.sink = sink;
+            this.outerFrame = outerFrame;
+            this.depth = depth;
+        }
+
+        abstract List<?> expected();
+
+        boolean accepts(long time) {
+            return true;
+        }
+
+        void record(long time, Notification<?> notification) {
+            recordedNotifications++;
+            sink.add(new Recorded<>(time, notification));
+        }
+
+        int recordedCount() {
+            return sink.size();
+        }
+
+        public void onNext(Object x) {
+            long time = scheduler.now() - outerFrame;
+            if (!accepts(time)) {
+                // discarded before any inner stream gets materialized
+                return;
+            }
+            Object value = x;
+            // Support Publisher-of-Publishers & Publisher-of-Observables
+            if (depth < innerStreamDepth) {
+                emittingRecorder = this;
+                try {
+                    value = materializeInnerStreamWhenNeeded(x);
+                } finally {
+                    emittingRecorder = null;
+                }
+            }
+            record(time, Notification.createOnNext(value));
+        }
+
+        public void onError(Throwable throwable) {
+            long time = scheduler.now() - outerFrame;
+            if (accepts(time)) {
+                record(time, Notification.createOnError(throwable));
+            }
+        }
+
+        public void onComplete() {
+            long time = scheduler.now() - outerFrame;
+            if (accepts(time)) {
+                record(time, Notification.createOnComplete());
+            }
+        }
+
+        private List<Recorded<Object>> expectedInnerStream() {
+            List<?> expected = expected();
+            int index = recordedCount();
+            if (expected == null || index >= expected.size()) {
+                return null;
+            }
+            Recorded<?> message = (Recorded<?>) expected.get(index);
+            if (message.value.isOnNext() && message.value.getValue() instanceof List) {
+                return (List<Recorded<Object>>) message.value.getValue();
+            }
+            return null;
+        }
+    }
+
+    private static class ListSink implements IRecordingSink {
+        private final List<Recorded<?>> messages;
+
+        ListSink(List<Recorded<?>> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public void add(Recorded<?> message) {
+            messages.add(message);
+        }
+
+        @Override
+        public int size() {
+            return messages.size();
+        }
+    }
+
+    private static class SubscriberForExpect<T> implements Subscriber<T>, ICancel {
+
+        private Subscription subscription;
+        private final Recorder recorder;
+
+        public SubscriberForExpect(Recorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T x) {
+            recorder.onNext(x);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            recorder.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            recorder.onComplete();
+        }
+
+        @Override
+        public void cancel() {
+            subscription.cancel();
+        }
+    }
+
+
+    public ISetupSubscriptionsTest expectSubscriptions(List<SubscriptionLog> subscriptions) {
+        String caller = ExceptionHelper.findCallerInStackTrace(schedulerClass, MarbleSchedulerState.class);
+        FlushableSubscriptionTest flushTest = new FlushableSubscriptionTest(caller);
+        flushTest.actual = subscriptions;
+        flushTests.add(flushTest);
+        return new SetupSubscriptionsTest(flushTest, frameTimeFactor);
+    }
+
+    private static class TrackedSource {
+        private final TestablePublisher<?> source;
+        private final String marbles;
+        private final boolean hot;
+
+        TrackedSource(TestablePublisher<?> source, String marbles, boolean hot) {
+            this.source = source;
+            this.marbles = marbles;
+            this.hot = hot;
+        }
+    }
+
+    public interface ISchedule {
+        long now();
+        void schedule(Runnable runnable, long time);
+    }
+
+    public interface IExpectSource {
+        ICancel subscribe(Recorder recorder);
+    }
+
+    public interface ICancel {
+        void cancel();
+    }
+
+    class SetupTest extends SetupTestSupport {
+        private final FlushableTest flushTest;
+        private final long frameTimeFactor;
+
+        public SetupTest(FlushableTest flushTest, long frameTimeFactor) {
+            this.flushTest = flushTest;
+            this.frameTimeFactor = frameTimeFactor;
+        }
+
+        public ISetupTest between(long fromFrame, long toFrame) {
+            if (fromFrame < 0 || toFrame < fromFrame) {
+                throw new IllegalArgumentException("Invalid window [" + fromFrame + ", " + toFrame + "[");
+            }
+            flushTest.window(fromFrame * frameTimeFactor, toFrame * frameTimeFactor);
+            return this;
+        }
+
+        public ISetupTest withTolerance(long toleranceFrames) {
+            if (toleranceFrames < 0) {
+                throw new IllegalArgumentException("Invalid tolerance " + toleranceFrames);
+            }
+            flushTest.tolerance = toleranceFrames * frameTimeFactor;
+            return this;
+        }
+
+        public void toBe(String marble, Map<String, ?> values, Exception errorValue) {
+            // values are only read, no need to copy them
+            List<Recorded<Object>> messages
+                    = Parser.parseMarbles(marble, (Map<String, Object>) values, errorValue, frameTimeFactor);
+            flushTest.expect(materializeExpected(messages, innerStreamDepth));
+        }
+
+        public void toBe(List<? extends Recorded<?>> timeline) {
+            flushTest.expect(materializeExpected(timeline, innerStreamDepth));
+        }
+
+        public void toBe(PrecomputedMarbles marbles, Map<String, ?> values, Exception errorValue) {
+            List<Recorded<Object>> messages
+                    = marbles.toTimeline((Map<String, Object>) values, errorValue, frameTimeFactor);
+            flushTest.expect(materializeExpected(messages, innerStreamDepth));
+        }
+
+        public void captureInto(List<Recorded<?>> timeline) {
+            flushTest.captureInto(timeline);
+        }
+
+        public void toEmitAtMost(int count, long windowFrames) {
+            flushTest.expectRate(new RateAssertion(true, count, windowFrames, frameTimeFactor));
+        }
+
+        public void toEmitAtLeast(int count, long windowFrames) {
+            flushTest.expectRate(new RateAssertion(false, count, windowFrames, frameTimeFactor));
+        }
+    }
+
+    interface ITestOnFlush {
+        void run();
+        boolean isReady();
+    }
+
+    static class FlushTask extends RecursiveAction {
+        private final ITestOnFlush test;
+        private RuntimeException failure;
+
+        FlushTask(ITestOnFlush test) {
+            this.test = test;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                test.run();
+            } catch (RuntimeException ex) {
+                failure = ex;
+            }
+        }
+    }
+
+    class FlushableTest implements ITestOnFlush, IRecordingSink {
+        private final String caller;
+        private final boolean digest;
+        private boolean ready;
+        private long windowStart = 0;
+        private long windowEnd = Long.MAX_VALUE;
+        private long tolerance = 0;
+        public List<Recorded<?>> actual = new ArrayList<>();
+        private RecordingDigest recordingDigest;
+        public List expected;
+        private RateAssertion rateAssertion;
+        private List<Recorded<?>> capture;
+
+        public FlushableTest(String caller, boolean digest) {
+            this.caller = caller;
+            this.digest = digest;
+        }
+
+        boolean isInWindow(long time) {
+            return time >= windowStart && time < windowEnd;
+        }
+
+        @Override
+        public void add(Recorded<?> message) {
+            // times are relative to the start of the window
+            Recorded<?> recorded = windowStart == 0 ? message : new Recorded<>(message.time - windowStart, message.value);
+            if (recordingDigest != null) {
+                recordingDigest.add(recorded);
+            } else {
+                actual.add(recorded);
+            }
+        }
+
+        @Override
+        public int size() {
+            return recordingDigest != null ? recordingDigest.size() : actual.size();
+        }
+
+        void window(long start, long end) {
+            // sources emitting on subscription have already been recorded
+            List<Recorded<?>> recorded = actual;
+            actual = new ArrayList<>();
+            windowStart = start;
+            windowEnd = end;
+            for (Recorded<?> message : recorded) {
+                if (isInWindow(message.time)) {
+                    actual.add(new Recorded<>(message.time - windowStart, message.value));
+                }
+            }
+        }
+
+        void captureInto(List<Recorded<?>> capture) {
+            this.capture = capture;
+            ready = true;
+        }
+
+        void expectRate(RateAssertion rateAssertion) {
+            this.rateAssertion = rateAssertion;
+            ready = true;
+        }
+
+        void expect(List<?> expected) {
+            this.expected = expected;
+            ready = true;
+            if (digest && tolerance == 0) {
+                // recording starts with the virtual time, the few notifications emitted on subscription are kept
+                recordingDigest = new RecordingDigest();
+                for (Recorded<?> message : actual) {
+                    recordingDigest.add(message);
+                }
+                // from now on, only the digest of the recording is available
+                actual = null;
+            }
+        }
+
+        public void run() {
+            if (capture != null) {
+                capture.addAll(actual);
+                return;
+            }
+            if (rateAssertion != null) {
+                String failure = rateAssertion.check(actual);
+                if (failure != null) {
+                    throw new ExpectPublisherException(failure, caller);
+                }
+                return;
+            }
+            if (recordingDigest != null) {
+                if (recordingDigest.digest() != RecordingDigest.digestOf(expected)) {
+                    throw new DigestMismatchException(caller);
+                }
+                return;
+            }
+
+            RecordedStreamComparator.StreamComparison result
+                    = new RecordedStreamComparator().compare(actual, expected, tolerance);
+
+            if (!result.streamEquals) {
+                throw new ExpectPublisherException(result.toString(), caller);
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+    }
+
+    class SetupSubscriptionsTest implements ISetupSubscriptionsTest {
+        private final FlushableSubscriptionTest flushTest;
+        private final long frameTimeFactor;
+
+        public SetupSubscriptionsTest(FlushableSubscriptionTest flushTest, long frameTimeFactor) {
+            this.flushTest = flushTest;
+            this.frameTimeFactor = frameTimeFactor;
+        }
+
+        public ISetupSubscriptionsTest inAnyOrder() {
+            flushTest.anyOrder = true;
+            return this;
+        }
+
+        public void toBe(String... marbles) {
+            List<SubscriptionLog> expected = new ArrayList<>(marbles.length);
+            for (String marble : marbles) {
+                expected.add(Parser.parseMarblesAsSubscriptions(marble, frameTimeFactor));
+            }
+            toBe(expected);
+        }
+
+        public void toBe(List<SubscriptionLog> subscriptions) {
+            flushTest.ready = true;
+            flushTest.expected = subscriptions;
+        }
+
+        public void toBe(PrecomputedMarbles marbles, PrecomputedMarbles... otherMarbles) {
+            List<SubscriptionLog> expected = new ArrayList<>(otherMarbles.length + 1);
+            expected.add(marbles.toSubscriptionLog(frameTimeFactor));
+            for (PrecomputedMarbles other : otherMarbles) {
+                expected.add(other.toSubscriptionLog(frameTimeFactor));
+            }
+            toBe(expected);
+        }
+
+        public void toBeRepeated(String marble, int times, long everyFrames) {
+            // the pattern is parsed once, whatever the number of repetitions
+            SubscriptionLog pattern = Parser.parseMarblesAsSubscriptions(marble, frameTimeFactor);
+            long period = everyFrames * frameTimeFactor;
+            List<SubscriptionLog> expected = new ArrayList<>(times);
+            for (int i = 0; i < times; i++) {
+                long shift = i * period;
+                expected.add(new SubscriptionLog(
+                        pattern.subscribe + shift,
+                        pattern.doesNeverEnd() ? Long.MAX_VALUE : pattern.unsubscribe + shift
+                ));
+            }
+            toBe(expected);
+        }
+    }
+
+    class FlushableSubscriptionTest implements ITestOnFlush {
+        private final String caller;
+        private  boolean ready;
+        private boolean anyOrder;
+        public List<SubscriptionLog> actual;
+        public List<SubscriptionLog> expected;
+
+        public FlushableSubscriptionTest(String caller) {
+            this.caller = caller;
+        }
+
+        public void run() {
+            if (anyOrder) {
+                runInAnyOrder();
+                return;
+            }
+            if (actual.size() != expected.size()) {
+                throw new ExpectSubscriptionsException(
+                        expected.size() + " subscription(s) expected, only " + actual.size() + " observed",
+                        caller
+                );
+            }
+            StringBuilder mismatches = new StringBuilder();
+            for (int i = 0; i < actual.size(); i++) {
+                if ((actual.get(i) != null && !actual.get(i).equals(expected.get(i)))
+                        || (actual.get(i) == null && expected.get(i) != null)) {
+                    if (mismatches.length() > 0) {
+                        mismatches.append("\n");
+                    }
+                    mismatches.append("Expected subscription was ").append(expected.get(i))
+                            .append(", instead received ").append(actual.get(i));
+                }
+            }
+            if (mismatches.length() > 0) {
+                throw new ExpectSubscriptionsException(mismatches.toString(), caller);
+            }
+        }
+
+        private void runInAnyOrder() {
+            List<SubscriptionLog> sortedActual = new ArrayList<>(actual);
+            Collections.sort(sortedActual, BY_INTERVAL);
+            List<SubscriptionLog> sortedExpected = new ArrayList<>(expected);
+            Collections.sort(sortedExpected, BY_INTERVAL);
+
+            StringBuilder mismatches = new StringBuilder();
+            int missing = 0;
+            int unexpected = 0;
+            int i = 0;
+            int j = 0;
+            while (i < sortedExpected.size() || j < sortedActual.size()) {
+                int order = i == sortedExpected.size() ? 1
+                        : (j == sortedActual.size() ? -1 : BY_INTERVAL.compare(sortedExpected.get(i), sortedActual.get(j)));
+                if (order == 0) {
+                    i++;
+                    j++;
+                } else if (order < 0) {
+                    mismatches.append("\n- expected but not observed ").append(sortedExpected.get(i++));
+                    missing++;
+                } else {
+                    mismatches.append("\n+ observed but not expected ").append(sortedActual.get(j++));
+                    unexpected++;
+                }
+            }
+            if (mismatches.length() > 0) {
+                throw new ExpectSubscriptionsException(
+                        missing + " expected subscription(s) not observed, " + unexpected
+                                + " observed subscription(s) not expected, out of " + expected.size() + " expected"
+                                + mismatches,
+                        caller
+                );
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package org.reactivestreams;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notifications of an inner stream, compared to the expected ones while being recorded.
+ * <p>
+ * As long as the inner stream matches its expectation, only the number of matching notifications is kept and the
+ * expected notifications stand for the actual ones. Actual notifications are buffered from the first difference on,
+ * or from the start when there is no expectation.
+ */
+class MaterializedStream extends AbstractList<Recorded<Object>> {
+
+    private final List<Recorded<Object>> expected;
+    private List<Recorded<Object>> buffer;
+    private int matched;
+
+    MaterializedStream(List<Recorded<Object>> expected) {
+        this.expected = expected;
+        if (expected == null) {
+            buffer = new ArrayList<>();
+        }
+    }
+
+    List<Recorded<Object>> getExpected() {
+        return expected;
+    }
+
+    @Override
+    public boolean add(Recorded<Object> message) {
+        if (buffer == null) {
+            // nested streams are still being recorded, they cannot be replaced by their expectation
+            if (matched < expected.size()
+                    && !(message.value.getValue() instanceof MaterializedStream)
+                    && expected.get(matched).equals(message)) {
+                matched++;
+                return true;
+            }
+            buffer = new ArrayList<>(expected.subList(0, matched));
+        }
+        return buffer.add(message);
+    }
+
+    @Override
+    public Recorded<Object> get(int index) {
+        if (buffer == null) {
+            if (index >= matched) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + matched);
+            }
+            return expected.get(index);
+        }
+        return buffer.get(index);
+    }
+
+    @Override
+    public int size() {
+        return buffer == null ? matched : buffer.size();
+    }
+}
@@ -9,6 +9,16 @@ import java.util.Map;
  */
 public class Parser {
 
+    private static final int TABLE_SIZE = 128;
+
+    // flyweights shared by every diagram parsed without a value map, notifications are immutable
+    private static final Notification<String>[] CHAR_NOTIFICATIONS = new Notification[TABLE_SIZE];
+
+    static {
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            CHAR_NOTIFICATIONS[c] = Notification.createOnNext(String.valueOf((char) c));
+        }
+    }
 
     public static <T> List<Recorded<T>> parseMarbles(String marbles,
                                                                          Map<String, T> values,
@@ -21,10 +31,14 @@ public class Parser {
         }
 
         int len = marbles.length();
-        List<Recorded<T>> testMessages = new ArrayList<>();
+        List<Recorded<T>> testMessages = new ArrayList<>(countEvents(marbles));
         int subIndex = marbles.indexOf('^');
         long frameOffset = subIndex == -1 ? 0 : (subIndex * -frameTimeFactor);
 
+        // onNext notifications are built once per distinct value character, and reused for every occurrence
+        Notification<T>[] valueNotifications = values == null ? (Notification<T>[]) (Notification[]) CHAR_NOTIFICATIONS
+                                                               : new Notification[TABLE_SIZE];
+        Notification<T> errorNotification = null;
         long groupStart = -1;
 
         for (int i = 0; i < len; i++) {
@@ -47,19 +61,21 @@ public class Parser {
                 case '^':
                     break;
                 case '#':
-                    notification = Notification.createOnError(errorValue);
+                    if (errorNotification == null) {
+                        errorNotification = Notification.createOnError(errorValue);
+                    }
+                    notification = errorNotification;
                     break;
                 default:
-                    T value;
-                    if (values == null) {
-                        value = (T)String.valueOf(c);
-                    } else {
-                        value = values.get(String.valueOf(c));
-                        if (materializeInnerObservables && value instanceof TestablePublisher) {
-                            value = (T)((TestablePublisher)value).getMessages();
+                    if (c < TABLE_SIZE) {
+                        notification = valueNotifications[c];
+                        if (notification == null) {
+                            notification = createOnNext(c, values, materializeInnerObservables);
+                            valueNotifications[c] = notification;
                         }
+                    } else {
+                        notification = createOnNext(c, values, materializeInnerObservables);
                     }
-                    notification = Notification.createOnNext(value);
                     break;
             }
 
@@ -71,6 +87,36 @@ public class Parser {
         return testMessages;
     }
 
+    private static <T> Notification<T> createOnNext(char c, Map<String, T> values, boolean materializeInnerObservables) {
+        T value;
+        if (values == null) {
+            value = (T)String.valueOf(c);
+        } else {
+            value = values.get(String.valueOf(c));
+            if (materializeInnerObservables && value instanceof TestablePublisher) {
+                value = (T)((TestablePublisher)value).getMessages();
+            }
+        }
+        return Notification.createOnNext(value);
+    }
+
+    private static int countEvents(String marbles) {
+        int count = 0;
+        for (int i = 0; i < marbles.length(); i++) {
+            switch (marbles.charAt(i)) {
+                case '-':
+                case ' ':
+                case '(':
+                case ')':
+                case '^':
+                    break;
+                default:
+                    count++;
+            }
+        }
+        return count;
+    }
+
     public static <T> List<Recorded<T>> parseMarbles(String marbles, Map<String, T> values, long frameTimeFactor) {
         return parseMarbles(marbles, values, null, frameTimeFactor);
     }
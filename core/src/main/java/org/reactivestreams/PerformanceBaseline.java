@@ -0,0 +1,264 @@
+package org.reactivestreams;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Per test performance baselines, stored in a properties file.
+ * <p>
+ * The first run of a test records its baseline, later runs are compared to it. A measure regresses when it
+ * exceeds its baseline by more than the threshold ratio, 50% by default, and by more than an absolute slack
+ * absorbing the noise of tiny tests: 1ms for times, 64KiB for allocations, none for virtual time measures.
+ * Virtual events are the notifications recorded from the streams under test, scheduler actions the actions
+ * scheduled on the virtual clock.
+ * Regressions fail the test, or are only reported with {@link #warnOnly()}.
+ * Baselines are rewritten when the system property <i>marbletest4j.baseline.update</i> is set to true.
+ */
+public class PerformanceBaseline {
+
+    public static final String WALL_TIME = "wallNanos";
+    public static final String CPU_TIME = "cpuNanos";
+    public static final String ALLOCATED_BYTES = "allocatedBytes";
+    public static final String VIRTUAL_EVENTS = "virtualEvents";
+    public static final String SCHEDULER_ACTIONS = "schedulerActions";
+
+    private static final long TIME_SLACK = 1000000;
+    private static final long ALLOCATION_SLACK = 64 * 1024;
+
+    private static final IRegressionListener LOG = new IRegressionListener() {
+        @Override
+        public void regressed(String test, String message) {
+            Logger.getLogger(PerformanceBaseline.class.getName()).warning(message);
+        }
+    };
+
+    private final File file;
+    private final boolean update = Boolean.getBoolean("marbletest4j.baseline.update");
+    private Properties baselines;
+    private double threshold = 0.5;
+    private IRegressionListener warnings;
+
+    public PerformanceBaseline(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Sets the ratio above baselines from which a measure regresses, 0.5 by default.
+     */
+    public PerformanceBaseline withThreshold(double threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold should not be negative, found " + threshold);
+        }
+        this.threshold = threshold;
+        return this;
+    }
+
+    /**
+     * Logs regressions as warnings, through java.util.logging, instead of failing tests.
+     */
+    public PerformanceBaseline warnOnly() {
+        return warnOnly(LOG);
+    }
+
+    /**
+     * Gives regressions to the listener instead of failing tests.
+     */
+    public PerformanceBaseline warnOnly(IRegressionListener listener) {
+        this.warnings = listener;
+        return this;
+    }
+
+    /**
+     * Starts measuring the current thread.
+     */
+    public Measure start() {
+        return new Measure();
+    }
+
+    /**
+     * Runs a test on the given scheduler, then checks its measures when it passes. Metrics already set on the
+     * scheduler keep receiving events during the test, and are set back afterwards.
+     */
+    public void run(String test, IScheduler scheduler, DigestReplay.ITest body) throws Throwable {
+        ISchedulerMetrics previous = scheduler.getMetrics();
+        SchedulerMetricsReport metrics = new SchedulerMetricsReport();
+        scheduler.setMetrics(previous == ISchedulerMetrics.NONE ? metrics : new ForwardingMetrics(metrics, previous));
+        Map<String, Long> measures;
+        try {
+            Measure measure = start();
+            body.run();
+            measures = measure.stop(metrics);
+        } finally {
+            ResourceMeter.setMeasured(false);
+            scheduler.setMetrics(previous);
+        }
+        check(test, measures);
+    }
+
+    /**
+     * Compares the measures of a test with its baseline, or records them when there is no baseline yet.
+     *
+     * @throws PerformanceRegressionException when a measure regresses, unless regressions are only warned about
+     */
+    public synchronized void check(String test, Map<String, Long> measures) {
+        load();
+        StringBuilder regressions = new StringBuilder();
+        boolean recorded = false;
+        for (Map.Entry<String, Long> measure : measures.entrySet()) {
+            long value = measure.getValue();
+            if (value < 0) {
+                // not supported by this JVM
+                continue;
+            }
+            String key = test + "." + measure.getKey();
+            String baseline = baselines.getProperty(key);
+            if (baseline == null || update) {
+                baselines.setProperty(key, String.valueOf(value));
+                recorded = true;
+            } else if (regresses(measure.getKey(), Long.parseLong(baseline), value)) {
+                regressions.append("\n  ").append(measure.getKey())
+                        .append(": ").append(value).append(" instead of ").append(baseline);
+            }
+        }
+        if (recorded) {
+            save();
+        }
+        if (regressions.length() > 0) {
+            String message = "Performance of " + test + " regressed beyond " + Math.round(threshold * 100)
+                    + "% of its baseline stored in " + file + regressions;
+            if (warnings == null) {
+                throw new PerformanceRegressionException(message);
+            }
+            warnings.regressed(test, message);
+        }
+    }
+
+    private boolean regresses(String measure, long baseline, long value) {
+        long slack = measure.equals(WALL_TIME) || measure.equals(CPU_TIME) ? TIME_SLACK
+                : (measure.equals(ALLOCATED_BYTES) ? ALLOCATION_SLACK : 0);
+        return value > baseline * (1 + threshold) && value - baseline > slack;
+    }
+
+    private void load() {
+        if (baselines != null) {
+            return;
+        }
+        baselines = new Properties();
+        if (!file.exists()) {
+            return;
+        }
+        try (InputStream input = new FileInputStream(file)) {
+            baselines.load(input);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read performance baselines from " + file, e);
+        }
+    }
+
+    private void save() {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IllegalStateException("Cannot create directory " + parent);
+        }
+        try (OutputStream output = new FileOutputStream(file)) {
+            baselines.store(output, "MarbleTest4J performance baselines");
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write performance baselines to " + file, e);
+        }
+    }
+
+    /**
+     * Measures the current thread, which also gets the comparisons that would run on other threads on flush.
+     */
+    public static class Measure {
+        private final long wallStart = System.nanoTime();
+        private final long cpuStart = ResourceMeter.cpuNanos();
+        private final long allocationStart = ResourceMeter.allocatedBytes();
+
+        private Measure() {
+            ResourceMeter.setMeasured(true);
+        }
+
+        /**
+         * @param metrics metrics of the scheduler used by the test, null when unknown
+         */
+        public Map<String, Long> stop(SchedulerMetricsReport metrics) {
+            long wall = System.nanoTime() - wallStart;
+            long cpu = ResourceMeter.cpuNanos();
+            long allocated = ResourceMeter.allocatedBytes();
+            ResourceMeter.setMeasured(false);
+            Map<String, Long> measures = new LinkedHashMap<>();
+            measures.put(WALL_TIME, wall);
+            measures.put(CPU_TIME, cpu < 0 ? -1 : cpu - cpuStart);
+            measures.put(ALLOCATED_BYTES, allocated < 0 ? -1 : allocated - allocationStart);
+            measures.put(VIRTUAL_EVENTS, metrics == null ? -1 : metrics.getRecordedNotifications());
+            measures.put(SCHEDULER_ACTIONS, metrics == null ? -1 : metrics.getScheduled());
+            return measures;
+        }
+    }
+
+    /**
+     * A scheduler whose metrics can be replaced while a test is measured.
+     */
+    public interface IScheduler {
+        ISchedulerMetrics getMetrics();
+        void setMetrics(ISchedulerMetrics metrics);
+    }
+
+    public interface IRegressionListener {
+        void regressed(String test, String message);
+    }
+
+    private static class ForwardingMetrics implements ISchedulerMetrics {
+        private final ISchedulerMetrics first;
+        private final ISchedulerMetrics second;
+
+        ForwardingMetrics(ISchedulerMetrics first, ISchedulerMetrics second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void actionScheduled(int pendingActions) {
+            first.actionScheduled(pendingActions);
+            second.actionScheduled(pendingActions);
+        }
+
+        @Override
+        public void actionExecuted(long frame) {
+            first.actionExecuted(frame);
+            second.actionExecuted(frame);
+        }
+
+        @Override
+        public void actionCancelled(long frame) {
+            first.actionCancelled(frame);
+            second.actionCancelled(frame);
+        }
+
+        @Override
+        public void timeAdvanced(long wallNanos) {
+            first.timeAdvanced(wallNanos);
+            second.timeAdvanced(wallNanos);
+        }
+
+        @Override
+        public void subscriptionsCreated(int subscriptions) {
+            first.subscriptionsCreated(subscriptions);
+            second.subscriptionsCreated(subscriptions);
+        }
+
+        @Override
+        public void notificationsRecorded(int notifications) {
+            first.notificationsRecorded(notifications);
+            second.notificationsRecorded(notifications);
+        }
+    }
+}
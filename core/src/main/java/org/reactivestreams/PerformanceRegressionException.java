@@ -0,0 +1,9 @@
+package org.reactivestreams;
+
+public class PerformanceRegressionException extends RuntimeException {
+
+    public PerformanceRegressionException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,77 @@
+package org.reactivestreams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Marble diagram parsed at compile time: the frame of each event, and its value character, '|' for completions
+ * or '#' for errors. Subscription diagrams hold '^' and '!' markers instead.
+ */
+public final class PrecomputedMarbles {
+
+    private final long[] frames;
+    private final char[] keys;
+
+    public PrecomputedMarbles(long[] frames, char[] keys) {
+        if (frames.length != keys.length) {
+            throw new IllegalArgumentException("Found " + frames.length + " frames for " + keys.length + " events");
+        }
+        this.frames = frames;
+        this.keys = keys;
+    }
+
+    public List<Recorded<String>> toTimeline(long frameTimeFactor) {
+        return toTimeline(null, null, frameTimeFactor);
+    }
+
+    public <T> List<Recorded<T>> toTimeline(Map<String, T> values, Exception errorValue, long frameTimeFactor) {
+        List<Recorded<T>> timeline = new ArrayList<>(keys.length);
+        Notification<T> errorNotification = null;
+        for (int i = 0; i < keys.length; i++) {
+            Notification<T> notification;
+            char key = keys[i];
+            if (key == '|') {
+                notification = Notification.createOnComplete();
+            } else if (key == '#') {
+                if (errorNotification == null) {
+                    errorNotification = Notification.createOnError(errorValue);
+                }
+                notification = errorNotification;
+            } else if (values == null) {
+                notification = Notification.createOnNext((T) String.valueOf(key));
+            } else {
+                notification = Notification.createOnNext(values.get(String.valueOf(key)));
+            }
+            timeline.add(new Recorded<>(frames[i] * frameTimeFactor, notification));
+        }
+        return timeline;
+    }
+
+    public SubscriptionLog toSubscriptionLog(long frameTimeFactor) {
+        long subscription = Long.MAX_VALUE;
+        long unsubscription = Long.MAX_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == '^') {
+                subscription = frames[i] * frameTimeFactor;
+            } else if (keys[i] == '!') {
+                unsubscription = frames[i] * frameTimeFactor;
+            } else {
+                throw new IllegalStateException("Not a subscription diagram, found '" + keys[i] + "'");
+            }
+        }
+        return new SubscriptionLog(subscription, unsubscription);
+    }
+
+    /**
+     * Lists the events as key@frame, used to label sources in failure reports.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(keys[i]).append('@').append(frames[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
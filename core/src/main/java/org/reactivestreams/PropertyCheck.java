@@ -0,0 +1,139 @@
+package org.reactivestreams;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a property against many generated scenarios, in parallel. Scenario i uses the seed of the generator plus i,
+ * so that a failure can be replayed. The failing scenario with the lowest index is shrunk to the simplest
+ * diagrams still failing, then reported with a {@link PropertyFailedException}.
+ * <p>
+ * Properties are called concurrently, each call should create its own marble scheduler.
+ */
+public class PropertyCheck {
+
+    private static final ForkJoinPool SCENARIO_POOL = new ForkJoinPool();
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+    private static final int MAX_SHRINK_ATTEMPTS = 10000;
+
+    private final MarbleGenerator generator;
+    private final int scenarios;
+    private int inputs = 1;
+
+    public PropertyCheck(MarbleGenerator generator, int scenarios) {
+        this.generator = generator;
+        this.scenarios = scenarios;
+    }
+
+    /**
+     * Sets the number of diagrams passed to the property for each scenario, 1 by default.
+     */
+    public PropertyCheck withInputs(int inputs) {
+        if (inputs < 1) {
+            throw new IllegalArgumentException("Properties need at least one input, found " + inputs);
+        }
+        this.inputs = inputs;
+        return this;
+    }
+
+    public void forAll(IProperty property) {
+        AtomicLong firstFailure = new AtomicLong(Long.MAX_VALUE);
+        SCENARIO_POOL.invoke(new ScenarioTask(property, 0, scenarios, firstFailure));
+        long failure = firstFailure.get();
+        if (failure == Long.MAX_VALUE) {
+            return;
+        }
+        long seed = generator.getSeed() + failure;
+        String[] generated = generate(seed);
+        Throwable cause = checkQuietly(property, generated);
+        if (cause == null) {
+            throw new IllegalStateException("Property is not deterministic, scenario of seed " + seed + " now succeeds");
+        }
+        String[] shrunk = generated.clone();
+        cause = shrink(property, shrunk, cause);
+        throw new PropertyFailedException(seed, generated, shrunk, cause);
+    }
+
+    private String[] generate(long seed) {
+        MarbleGenerator scenarioGenerator = generator.withSeed(seed);
+        String[] marbles = new String[inputs];
+        for (int i = 0; i < inputs; i++) {
+            marbles[i] = scenarioGenerator.next();
+        }
+        return marbles;
+    }
+
+    /**
+     * Replaces diagrams, one at a time, by simpler ones as long as the property keeps failing.
+     */
+    private static Throwable shrink(IProperty property, String[] marbles, Throwable cause) {
+        int attempts = 0;
+        boolean shrunk = true;
+        while (shrunk && attempts < MAX_SHRINK_ATTEMPTS) {
+            shrunk = false;
+            for (int i = 0; i < marbles.length && !shrunk; i++) {
+                String current = marbles[i];
+                List<String> candidates = MarbleGenerator.shrink(current);
+                for (int j = 0; j < candidates.size() && attempts < MAX_SHRINK_ATTEMPTS; j++) {
+                    attempts++;
+                    marbles[i] = candidates.get(j);
+                    Throwable failure = checkQuietly(property, marbles);
+                    if (failure != null) {
+                        cause = failure;
+                        shrunk = true;
+                        break;
+                    }
+                    marbles[i] = current;
+                }
+            }
+        }
+        return cause;
+    }
+
+    private static Throwable checkQuietly(IProperty property, String[] marbles) {
+        try {
+            property.check(marbles.clone());
+            return null;
+        } catch (RuntimeException | AssertionError ex) {
+            return ex;
+        }
+    }
+
+    private class ScenarioTask extends RecursiveAction {
+        private final IProperty property;
+        private final int from;
+        private final int to;
+        private final AtomicLong firstFailure;
+
+        ScenarioTask(IProperty property, int from, int to, AtomicLong firstFailure) {
+            this.property = property;
+            this.from = from;
+            this.to = to;
+            this.firstFailure = firstFailure;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new ScenarioTask(property, from, middle, firstFailure),
+                        new ScenarioTask(property, middle, to, firstFailure)
+                );
+                return;
+            }
+            // scenarios after a known failure are skipped, only the first one is reported
+            for (int i = from; i < to && i < firstFailure.get(); i++) {
+                if (checkQuietly(property, generate(generator.getSeed() + i)) != null) {
+                    long failure;
+                    do {
+                        failure = firstFailure.get();
+                    } while (i < failure && !firstFailure.compareAndSet(failure, i));
+                    return;
+                }
+            }
+        }
+    }
+}
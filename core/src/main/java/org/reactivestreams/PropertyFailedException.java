@@ -0,0 +1,35 @@
+package org.reactivestreams;
+
+import java.util.Arrays;
+
+/**
+ * Thrown when a property fails, with the generated diagrams and the simplest diagrams still failing.
+ */
+public class PropertyFailedException extends RuntimeException {
+
+    private final long seed;
+    private final String[] generated;
+    private final String[] shrunk;
+
+    public PropertyFailedException(long seed, String[] generated, String[] shrunk, Throwable cause) {
+        super("Property failed for seed " + seed
+                + "\nGenerated: " + Arrays.toString(generated)
+                + "\nShrunk:    " + Arrays.toString(shrunk)
+                + "\n" + cause.getMessage(), cause);
+        this.seed = seed;
+        this.generated = generated;
+        this.shrunk = shrunk;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String[] getGenerated() {
+        return generated;
+    }
+
+    public String[] getShrunk() {
+        return shrunk;
+    }
+}
@@ -0,0 +1,97 @@
+package org.reactivestreams;
+
+import java.util.List;
+
+/**
+ * Checks the number of values emitted in sliding windows of frames, in a single pass over a recording.
+ * Only onNext notifications are counted.
+ */
+class RateAssertion {
+
+    private final boolean atMost;
+    private final int count;
+    private final long windowFrames;
+    private final long frameTimeFactor;
+
+    RateAssertion(boolean atMost, int count, long windowFrames, long frameTimeFactor) {
+        if (windowFrames <= 0) {
+            throw new IllegalArgumentException("Window should last at least one frame, found " + windowFrames);
+        }
+        this.atMost = atMost;
+        this.count = count;
+        this.windowFrames = windowFrames;
+        this.frameTimeFactor = frameTimeFactor;
+    }
+
+    /**
+     * @return a description of the worst window when the assertion fails, null otherwise
+     */
+    String check(List<Recorded<?>> recorded) {
+        int size = 0;
+        long[] frames = new long[recorded.size()];
+        long lastFrame = 0;
+        for (Recorded<?> message : recorded) {
+            long frame = message.time / frameTimeFactor;
+            lastFrame = Math.max(lastFrame, frame);
+            if (message.value.isOnNext()) {
+                frames[size++] = frame;
+            }
+        }
+        return atMost ? checkAtMost(frames, size) : checkAtLeast(frames, size, lastFrame);
+    }
+
+    private String checkAtMost(long[] frames, int size) {
+        int worstCount = 0;
+        long worstStart = 0;
+        int end = 0;
+        // windows starting on each value are the only ones that can hold a maximum
+        for (int start = 0; start < size; start++) {
+            while (end < size && frames[end] < frames[start] + windowFrames) {
+                end++;
+            }
+            if (end - start > worstCount) {
+                worstCount = end - start;
+                worstStart = frames[start];
+            }
+        }
+        if (worstCount <= count) {
+            return null;
+        }
+        return describe("at most", worstCount, worstStart);
+    }
+
+    private String checkAtLeast(long[] frames, int size, long lastFrame) {
+        long lastStart = Math.max(0, lastFrame - windowFrames + 1);
+        int worstCount = Integer.MAX_VALUE;
+        long worstStart = 0;
+        int first = 0;
+        int end = 0;
+        // windows starting right after a value are the only ones, with the first window, that can hold a minimum
+        for (int i = -1; i < size; i++) {
+            long start = i == -1 ? 0 : frames[i] + 1;
+            if (start > lastStart) {
+                break;
+            }
+            while (first < size && frames[first] < start) {
+                first++;
+            }
+            while (end < size && frames[end] < start + windowFrames) {
+                end++;
+            }
+            if (end - first < worstCount) {
+                worstCount = end - first;
+                worstStart = start;
+            }
+        }
+        if (worstCount >= count) {
+            return null;
+        }
+        return describe("at least", worstCount, worstStart);
+    }
+
+    private String describe(String bound, int worstCount, long worstStart) {
+        return "Expected " + bound + " " + count + " value(s) in any window of " + windowFrames + " frame(s), "
+                + "found " + worstCount + " from frame " + worstStart
+                + " to frame " + (worstStart + windowFrames) + " excluded";
+    }
+}
@@ -0,0 +1,277 @@
+package org.reactivestreams;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by Alexandre Victoor on 25/10/2016.
+ */
+public class RecordedStreamComparator {
+
+    private static final Object ERROR_KEY = new Object();
+
+    private static final Comparator<Recorded<?>> BY_TIME = new Comparator<Recorded<?>>() {
+        @Override
+        public int compare(Recorded<?> first, Recorded<?> second) {
+            return first.time < second.time ? -1 : (first.time == second.time ? 0 : 1);
+        }
+    };
+
+    public StreamComparison compare(
+            List<Recorded<?>> actualRecords,
+            List<Recorded<?>> expectedRecords) {
+
+        return compare(actualRecords, expectedRecords, 0);
+    }
+
+    /**
+     * Compares streams as multisets: events are sorted by time, then the simultaneous events of both streams are
+     * paired one to one, so that an event emitted twice is only matched by an event expected twice.
+     */
+    private StreamComparison compareExactly(
+            List<Recorded<?>> actualRecords,
+            List<Recorded<?>> expectedRecords) {
+
+        List<Recorded<?>> actualSorted = new ArrayList<>(actualRecords);
+        Collections.sort(actualSorted, BY_TIME);
+        List<Recorded<?>> expectedSorted = new ArrayList<>(expectedRecords);
+        Collections.sort(expectedSorted, BY_TIME);
+
+        List<EventComparison> onlyOnExpected = new ArrayList<>();
+        List<EventComparison> onlyOnActual = new ArrayList<>();
+        List<EventComparison> matched = new ArrayList<>(actualSorted.size());
+        int i = 0;
+        int j = 0;
+        while (i < actualSorted.size() || j < expectedSorted.size()) {
+            long time = Math.min(
+                    i < actualSorted.size() ? actualSorted.get(i).time : Long.MAX_VALUE,
+                    j < expectedSorted.size() ? expectedSorted.get(j).time : Long.MAX_VALUE
+            );
+            int actualEnd = i;
+            while (actualEnd < actualSorted.size() && actualSorted.get(actualEnd).time == time) {
+                actualEnd++;
+            }
+            // simultaneous events are few, a quadratic pairing is enough
+            List<Recorded<?>> expectedAtTime = new ArrayList<>();
+            while (j < expectedSorted.size() && expectedSorted.get(j).time == time) {
+                expectedAtTime.add(expectedSorted.get(j++));
+            }
+            for (; i < actualEnd; i++) {
+                Recorded<?> actual = actualSorted.get(i);
+                if (expectedAtTime.remove(actual)) {
+                    matched.add(new EventComparison(actual, EventComparisonResult.EQUALS));
+                } else {
+                    onlyOnActual.add(new EventComparison(actual, EventComparisonResult.ONLY_ON_ACTUAL));
+                }
+            }
+            for (Recorded<?> expected : expectedAtTime) {
+                onlyOnExpected.add(new EventComparison(expected, EventComparisonResult.ONLY_ON_EXPECTED));
+            }
+        }
+
+        boolean equalStreams = onlyOnExpected.isEmpty() && onlyOnActual.isEmpty();
+        List<EventComparison> unitComparisons = new ArrayList<>(onlyOnExpected);
+        unitComparisons.addAll(onlyOnActual);
+        unitComparisons.addAll(matched);
+        sort(unitComparisons);
+
+        return new StreamComparison(equalStreams, unitComparisons);
+    }
+
+    /**
+     * Compares streams accepting events shifted by at most the given tolerance, in time units.
+     * <p>
+     * Events are grouped by notification, then expected events are matched in time order with the earliest actual
+     * event close enough. Since every expected event accepts the same shift, this greedy matching pairs as many
+     * events as possible. Matched events report their shift.
+     */
+    public StreamComparison compare(
+            List<Recorded<?>> actualRecords,
+            List<Recorded<?>> expectedRecords,
+            long tolerance) {
+
+        Object event = FlightRecorder.beginComparison();
+        StreamComparison comparison = tolerance == 0
+                ? compareExactly(actualRecords, expectedRecords)
+                : compareWithTolerance(actualRecords, expectedRecords, tolerance);
+        FlightRecorder.endComparison(event, actualRecords.size(), expectedRecords.size(), comparison.streamEquals);
+        return comparison;
+    }
+
+    private StreamComparison compareWithTolerance(
+            List<Recorded<?>> actualRecords,
+            List<Recorded<?>> expectedRecords,
+            long tolerance) {
+
+        List<Recorded<?>> actualSorted = new ArrayList<>(actualRecords);
+        Collections.sort(actualSorted, BY_TIME);
+        List<Recorded<?>> expectedSorted = new ArrayList<>(expectedRecords);
+        Collections.sort(expectedSorted, BY_TIME);
+
+        Map<Object, ArrayDeque<Recorded<?>>> actualByNotification = new HashMap<>();
+        for (Recorded<?> record : actualSorted) {
+            ArrayDeque<Recorded<?>> queue = actualByNotification.get(keyOf(record));
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                actualByNotification.put(keyOf(record), queue);
+            }
+            queue.add(record);
+        }
+
+        List<EventComparison> unitComparisons = new ArrayList<>(expectedSorted.size());
+        boolean equalStreams = true;
+        for (Recorded<?> expected : expectedSorted) {
+            ArrayDeque<Recorded<?>> queue = actualByNotification.get(keyOf(expected));
+            while (queue != null && !queue.isEmpty() && queue.peek().time < expected.time - tolerance) {
+                unitComparisons.add(new EventComparison(queue.poll(), EventComparisonResult.ONLY_ON_ACTUAL));
+                equalStreams = false;
+            }
+            if (queue != null && !queue.isEmpty() && queue.peek().time <= expected.time + tolerance) {
+                Recorded<?> actual = queue.poll();
+                unitComparisons.add(
+                        new EventComparison(actual, EventComparisonResult.EQUALS, actual.time - expected.time)
+                );
+            } else {
+                unitComparisons.add(new EventComparison(expected, EventComparisonResult.ONLY_ON_EXPECTED));
+                equalStreams = false;
+            }
+        }
+        for (ArrayDeque<Recorded<?>> queue : actualByNotification.values()) {
+            for (Recorded<?> actual : queue) {
+                unitComparisons.add(new EventComparison(actual, EventComparisonResult.ONLY_ON_ACTUAL));
+                equalStreams = false;
+            }
+        }
+        sort(unitComparisons);
+
+        return new StreamComparison(equalStreams, unitComparisons);
+    }
+
+    private static Object keyOf(Recorded<?> record) {
+        // we do not do deep comparisons on exceptions
+        return record.value.isOnError() ? ERROR_KEY : record.value;
+    }
+
+    private static void sort(List<EventComparison> unitComparisons) {
+        Collections.sort(unitComparisons, new Comparator<EventComparison>() {
+            @Override
+            public int compare(EventComparison first, EventComparison second) {
+
+                int diff = new Long(first.record.time - second.record.time).intValue();
+                if (diff == 0) {
+                    //
+                    // if events are simultaneous
+                    // on complete and on error should be last
+                    //
+                    if (first.record.value.isOnComplete() || first.record.value.isOnError()) {
+                        return Integer.MAX_VALUE;
+                    }
+                    if (second.record.value.isOnComplete() || second.record.value.isOnError()) {
+                        return Integer.MIN_VALUE;
+                    }
+                }
+                return diff;
+            }
+        });
+    }
+
+
+    public static class StreamComparison {
+        public final boolean streamEquals;
+        public final List<EventComparison> unitComparisons;
+
+        public StreamComparison(boolean equals, List<EventComparison> comparisons) {
+            this.streamEquals = equals;
+            this.unitComparisons = comparisons;
+        }
+
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            if (streamEquals) {
+                builder.append("Streams are equal");
+            } else {
+                builder.append("Streams are not equal, details below:");
+                EventComparisonResult currentMode = null;
+                for (EventComparison comparison: unitComparisons) {
+                    if (currentMode == comparison.result) {
+                        builder.append("\n");
+                    } else {
+                        currentMode = comparison.result;
+                        switch (currentMode) {
+                            case EQUALS:
+                                builder.append("\n=   On actual & expected streams\n");
+                                break;
+                            case ONLY_ON_ACTUAL:
+                                builder.append("\n+   On actual stream\n");
+                                break;
+                            case ONLY_ON_EXPECTED:
+                                builder.append("\n-   On expected stream\n");
+                                break;
+                        }
+                    }
+                    builder.append(comparison);
+                }
+            }
+            return builder.toString();
+        }
+    }
+
+    public enum EventComparisonResult { EQUALS, ONLY_ON_ACTUAL, ONLY_ON_EXPECTED }
+
+    public static class EventComparison {
+        public final Recorded<?> record;
+        public final EventComparisonResult result;
+        public final long offset;
+
+        public EventComparison(Recorded<?> record, EventComparisonResult result) {
+            this(record, result, 0);
+        }
+
+        public EventComparison(Recorded<?> record, EventComparisonResult result, long offset) {
+            this.record = record;
+            this.result = result;
+            this.offset = offset;
+        }
+
+        @Override
+        public String toString() {
+            switch (result) {
+                case EQUALS:
+                    String shift = offset == 0 ? "" : "\n  shifted by " + (offset > 0 ? "+" : "") + offset;
+                    return "= " + (record.toString() + shift).replace("\n", "\n= ");
+                case ONLY_ON_ACTUAL:
+                    return "+ " + record.toString().replace("\n", "\n+ ");
+                case ONLY_ON_EXPECTED:
+                    return "- " + record.toString().replace("\n", "\n- ");
+                default: throw new RuntimeException("should not happen");
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            EventComparison that = (EventComparison) o;
+
+            if (!record.equals(that.record)) return false;
+            if (offset != that.offset) return false;
+            return result == that.result;
+
+        }
+
+        @Override
+        public int hashCode() {
+            int result1 = record.hashCode();
+            result1 = 31 * result1 + result.hashCode();
+            result1 = 31 * result1 + (int) (offset ^ (offset >>> 32));
+            return result1;
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package org.reactivestreams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a digest of recorded notifications rather than the notifications themselves.
+ * <p>
+ * Each notification is hashed along with its frame and the hashes are summed, so that the digest does not depend
+ * on the order of simultaneous notifications. Notifications carrying inner streams are kept aside and hashed when
+ * the digest is read, once these streams are over.
+ * <p>
+ * A digest is probabilistic. Values are hashed with their class, their hash code and a 64 bits hash of their
+ * string representation, so that unequal values only go unnoticed when all of these collide.
+ */
+class RecordingDigest implements IRecordingSink {
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final List<Recorded<?>> deferred = new ArrayList<>();
+    private long sum;
+    private int count;
+
+    @Override
+    public void add(Recorded<?> message) {
+        count++;
+        if (message.value.isOnNext() && message.value.getValue() instanceof List) {
+            deferred.add(message);
+        } else {
+            sum += hash(message);
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    long digest() {
+        long digest = sum;
+        for (Recorded<?> message : deferred) {
+            digest += hash(message);
+        }
+        return digest;
+    }
+
+    static long digestOf(List<?> messages) {
+        long digest = 0;
+        for (Object message : messages) {
+            digest += hash((Recorded<?>) message);
+        }
+        return digest;
+    }
+
+    private static long hash(Recorded<?> message) {
+        long hash = message.time * 0x9E3779B97F4A7C15L + message.value.getKind().ordinal();
+        if (message.value.isOnNext()) {
+            // errors are not compared deeply, only their kind and time are hashed
+            hash = hash * 31 + hashValue(message.value.getValue());
+        }
+        return mix(hash);
+    }
+
+    private static long hashValue(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof List) {
+            long hash = 1;
+            for (Object element : (List<?>) value) {
+                hash = hash * 31 + (element instanceof Recorded ? hash((Recorded<?>) element) : hashValue(element));
+            }
+            return hash;
+        }
+        // equal values of different classes, like 1 and 1L, or values with colliding hash codes still differ
+        long hash = hashString(value.getClass().getName());
+        hash = mix(hash * 31 + value.hashCode());
+        return hash * 31 + hashString(String.valueOf(value));
+    }
+
+    private static long hashString(String text) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
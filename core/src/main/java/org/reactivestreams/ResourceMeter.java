@@ -0,0 +1,51 @@
+package org.reactivestreams;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * CPU time and memory allocated by the current thread, -1 when the JVM cannot measure them.
+ * While a thread is measured, work that could be handed over to other threads should stay on it.
+ */
+final class ResourceMeter {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported();
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocations();
+    private static final ThreadLocal<Boolean> MEASURED = new ThreadLocal<>();
+
+    private ResourceMeter() {
+    }
+
+    private static com.sun.management.ThreadMXBean allocations() {
+        try {
+            if (THREADS instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported()) {
+                return (com.sun.management.ThreadMXBean) THREADS;
+            }
+        } catch (LinkageError e) {
+            // not an HotSpot based JVM
+        }
+        return null;
+    }
+
+    static long cpuNanos() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    static long allocatedBytes() {
+        return ALLOCATIONS != null ? ALLOCATIONS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    static void setMeasured(boolean measured) {
+        if (measured) {
+            MEASURED.set(Boolean.TRUE);
+        } else {
+            MEASURED.remove();
+        }
+    }
+
+    static boolean isMeasured() {
+        return MEASURED.get() != null;
+    }
+}
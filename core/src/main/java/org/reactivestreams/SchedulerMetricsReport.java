@@ -0,0 +1,137 @@
+package org.reactivestreams;
+
+/**
+ * Built-in metrics, gathering counters and an histogram of the number of actions executed per frame.
+ * The report can be printed after flush with {@link #toString()}.
+ */
+public class SchedulerMetricsReport implements ISchedulerMetrics {
+
+    // bucket i counts the frames running from 2^i to 2^(i+1) - 1 actions
+    private final long[] actionsPerFrame = new long[32];
+
+    private long scheduled;
+    private long executed;
+    private long cancelled;
+    private int maxPendingActions;
+    private int subscriptions;
+    private long notifications;
+    private long advances;
+    private long totalAdvanceNanos;
+    private long maxAdvanceNanos;
+    private long currentFrame = Long.MIN_VALUE;
+    private int currentFrameActions;
+
+    @Override
+    public synchronized void actionScheduled(int pendingActions) {
+        scheduled++;
+        maxPendingActions = Math.max(maxPendingActions, pendingActions);
+    }
+
+    @Override
+    public synchronized void actionExecuted(long frame) {
+        executed++;
+        if (frame != currentFrame) {
+            closeFrame();
+            currentFrame = frame;
+        }
+        currentFrameActions++;
+    }
+
+    @Override
+    public synchronized void actionCancelled(long frame) {
+        cancelled++;
+    }
+
+    @Override
+    public synchronized void timeAdvanced(long wallNanos) {
+        advances++;
+        totalAdvanceNanos += wallNanos;
+        maxAdvanceNanos = Math.max(maxAdvanceNanos, wallNanos);
+    }
+
+    @Override
+    public synchronized void subscriptionsCreated(int subscriptions) {
+        this.subscriptions += subscriptions;
+    }
+
+    @Override
+    public synchronized void notificationsRecorded(int notifications) {
+        this.notifications += notifications;
+    }
+
+    private void closeFrame() {
+        if (currentFrameActions > 0) {
+            actionsPerFrame[31 - Integer.numberOfLeadingZeros(currentFrameActions)]++;
+        }
+        currentFrameActions = 0;
+    }
+
+    public synchronized long getScheduled() {
+        return scheduled;
+    }
+
+    public synchronized long getExecuted() {
+        return executed;
+    }
+
+    public synchronized long getCancelled() {
+        return cancelled;
+    }
+
+    public synchronized int getMaxPendingActions() {
+        return maxPendingActions;
+    }
+
+    public synchronized int getSubscriptions() {
+        return subscriptions;
+    }
+
+    public synchronized long getRecordedNotifications() {
+        return notifications;
+    }
+
+    public synchronized long getAdvances() {
+        return advances;
+    }
+
+    public synchronized long getMaxAdvanceNanos() {
+        return maxAdvanceNanos;
+    }
+
+    /**
+     * @return for each index i, the number of frames that ran from 2^i to 2^(i+1) - 1 actions
+     */
+    public synchronized long[] getActionsPerFrame() {
+        long[] histogram = actionsPerFrame.clone();
+        if (currentFrameActions > 0) {
+            histogram[31 - Integer.numberOfLeadingZeros(currentFrameActions)]++;
+        }
+        return histogram;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder("Scheduler metrics\n");
+        builder.append("  actions scheduled:      ").append(scheduled).append('\n');
+        builder.append("  actions executed:       ").append(executed).append('\n');
+        builder.append("  actions cancelled:      ").append(cancelled).append('\n');
+        builder.append("  max pending actions:    ").append(maxPendingActions).append('\n');
+        builder.append("  subscriptions created:  ").append(subscriptions).append('\n');
+        builder.append("  notifications recorded: ").append(notifications).append('\n');
+        builder.append("  clock advances:         ").append(advances).append('\n');
+        builder.append("  wall time per advance:  ")
+                .append(advances == 0 ? 0 : totalAdvanceNanos / advances / 1000).append(" us average, ")
+                .append(maxAdvanceNanos / 1000).append(" us max\n");
+        builder.append("  actions per frame:\n");
+        long[] histogram = getActionsPerFrame();
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] > 0) {
+                long from = 1L << i;
+                long to = (1L << (i + 1)) - 1;
+                builder.append("    ").append(from == to ? String.valueOf(from) : from + "-" + to)
+                        .append(": ").append(histogram[i]).append(" frame(s)\n");
+            }
+        }
+        return builder.toString();
+    }
+}
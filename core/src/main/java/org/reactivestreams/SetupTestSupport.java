@@ -14,4 +14,14 @@ public abstract class SetupTestSupport implements ISetupTest {
         toBe(marble, null);
     }
 
+    public void toBe(PrecomputedMarbles marbles,
+              Map<String, ?> values) {
+
+        toBe(marbles, values, null);
+    }
+
+    public void toBe(PrecomputedMarbles marbles) {
+        toBe(marbles, null);
+    }
+
 }
@@ -0,0 +1,71 @@
+package org.reactivestreams;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Describes a subscriber along with the downstream subscribers it references, such as
+ * "ObserverAdapter -> ObservableMap$MapObserver -> LambdaObserver".
+ * <p>
+ * Operators do not expose their downstream subscriber, so fields are read by reflection. Any field holding an
+ * observer or a subscriber, whatever its library, is followed.
+ */
+class SubscriberChain {
+
+    private static final int MAX_LENGTH = 10;
+
+    static String describe(Object subscriber) {
+        StringBuilder builder = new StringBuilder();
+        Map<Object, Boolean> visited = new IdentityHashMap<>();
+        Object current = subscriber;
+        while (current != null && visited.put(current, true) == null) {
+            if (visited.size() > MAX_LENGTH) {
+                builder.append(" -> ...");
+                break;
+            }
+            if (builder.length() > 0) {
+                builder.append(" -> ");
+            }
+            String name = current.getClass().getName();
+            builder.append(name.substring(name.lastIndexOf('.') + 1));
+            current = downstreamOf(current);
+        }
+        return builder.toString();
+    }
+
+    private static Object downstreamOf(Object subscriber) {
+        for (Class<?> type = subscriber.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    Object value = field.get(subscriber);
+                    if (value != null && value != subscriber && isSubscriber(value.getClass())) {
+                        return value;
+                    }
+                } catch (IllegalAccessException | RuntimeException ex) {
+                    // fields of classes that cannot be opened are skipped
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSubscriber(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (current.getSimpleName().endsWith("Subscriber") || current.getSimpleName().endsWith("Observer")) {
+                return true;
+            }
+            for (Class<?> contract : current.getInterfaces()) {
+                if (isSubscriber(contract)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,110 @@
+package org.reactivestreams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds timelines of recorded notifications without writing and parsing marble diagrams,
+ * typically from loops or generators when scenarios get big.
+ * <p>
+ * The builder follows the marble syntax: each call consumes frames as the equivalent characters would.
+ * For instance {@code next("a").skip(2).group("b", "c").complete()} gives the same timeline as "a--(bc)|".
+ * <p>
+ * Built timelines are read only and can be shared by sources and expectations, nothing can be added afterwards.
+ */
+public class TimelineBuilder<T> {
+
+    private final long frameTimeFactor;
+    private final ArrayList<Recorded<T>> messages;
+    private long frame = 0;
+    private List<Recorded<T>> timeline;
+
+    public TimelineBuilder(long frameTimeFactor) {
+        this(frameTimeFactor, 16);
+    }
+
+    public TimelineBuilder(long frameTimeFactor, int expectedSize) {
+        this.frameTimeFactor = frameTimeFactor;
+        this.messages = new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Emits a value at the current frame, like a value character.
+     */
+    public TimelineBuilder<T> next(T value) {
+        checkNotBuilt();
+        messages.add(new Recorded<>(frame * frameTimeFactor, Notification.createOnNext(value)));
+        frame++;
+        return this;
+    }
+
+    /**
+     * Lets some frames go without any event, like '-' characters.
+     */
+    public TimelineBuilder<T> skip(long frames) {
+        if (frames < 0) {
+            throw new IllegalArgumentException("Number of frames to skip should not be negative, found " + frames);
+        }
+        frame += frames;
+        return this;
+    }
+
+    /**
+     * Moves to an absolute frame, which should not be before the current one.
+     */
+    public TimelineBuilder<T> at(long frame) {
+        return skip(frame - this.frame);
+    }
+
+    /**
+     * Emits simultaneous values, like a group between parentheses.
+     */
+    @SafeVarargs
+    public final TimelineBuilder<T> group(T... values) {
+        checkNotBuilt();
+        long time = frame * frameTimeFactor;
+        messages.ensureCapacity(messages.size() + values.length);
+        for (T value : values) {
+            messages.add(new Recorded<>(time, Notification.createOnNext(value)));
+        }
+        frame += values.length + 2;
+        return this;
+    }
+
+    /**
+     * Ends the timeline with an error, like '#'.
+     */
+    public TimelineBuilder<T> error(Throwable error) {
+        checkNotBuilt();
+        messages.add(new Recorded<>(frame * frameTimeFactor, Notification.<T>createOnError(error)));
+        frame++;
+        return this;
+    }
+
+    /**
+     * Ends the timeline successfully, like '|'.
+     */
+    public TimelineBuilder<T> complete() {
+        checkNotBuilt();
+        messages.add(new Recorded<>(frame * frameTimeFactor, Notification.<T>createOnComplete()));
+        frame++;
+        return this;
+    }
+
+    /**
+     * @return a read only view of the timeline, the builder cannot emit anything afterwards
+     */
+    public List<Recorded<T>> build() {
+        if (timeline == null) {
+            timeline = Collections.unmodifiableList(messages);
+        }
+        return timeline;
+    }
+
+    private void checkNotBuilt() {
+        if (timeline != null) {
+            throw new IllegalStateException("Timeline already built");
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.reactivestreams;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Virtual clock dedicated to marble tests.
+ * <p>
+ * Marble events always occur on multiples of the frame time factor, so pending actions are stored in a timing
+ * wheel of buckets indexed by frame rather than in a general priority queue. Scheduling an action and dispatching
+ * the next one are constant time operations, empty frames are skipped using a bitmap of busy buckets, and actions
+ * scheduled at the same time run in FIFO order. Actions scheduled beyond the horizon of the wheel wait in an
+ * overflow queue until the wheel gets close enough.
+ * <p>
+ * Times are expressed in nanoseconds.
+ */
+public class VirtualTimeEngine {
+
+    private static final int SLOTS = 1024;
+    private static final int MASK = SLOTS - 1;
+
+    private final long frameNanos;
+    private final Task[] heads = new Task[SLOTS];
+    private final Task[] tails = new Task[SLOTS];
+    private final long[] busySlots = new long[SLOTS / 64];
+    private final PriorityQueue<Task> overflow = new PriorityQueue<>(16, new Comparator<Task>() {
+        @Override
+        public int compare(Task first, Task second) {
+            if (first.time != second.time) {
+                return first.time < second.time ? -1 : 1;
+            }
+            return first.sequence < second.sequence ? -1 : (first.sequence == second.sequence ? 0 : 1);
+        }
+    });
+
+    private long baseFrame = 0;
+    private long time = 0;
+    private long sequence = 0;
+    private int pending = 0;
+    private ISchedulerMetrics metrics = ISchedulerMetrics.NONE;
+
+    public VirtualTimeEngine(long frameNanos) {
+        if (frameNanos <= 0) {
+            throw new IllegalArgumentException("Frame duration should be positive, found " + frameNanos);
+        }
+        this.frameNanos = frameNanos;
+    }
+
+    /**
+     * Sets the instrumentation of this engine, {@link ISchedulerMetrics#NONE} by default.
+     */
+    public synchronized void setMetrics(ISchedulerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public synchronized ISchedulerMetrics getMetrics() {
+        return metrics;
+    }
+
+    public synchronized long now() {
+        return time;
+    }
+
+    public Task schedule(Runnable action, long delayNanos) {
+        synchronized (this) {
+            return scheduleAt(action, saturatedAdd(time, delayNanos));
+        }
+    }
+
+    public synchronized Task scheduleAt(Runnable action, long timeNanos) {
+        Task task = new Task(this, action, timeNanos, sequence++);
+        long frame = Math.max(frameOf(timeNanos), baseFrame);
+        if (frame - baseFrame >= SLOTS) {
+            overflow.add(task);
+        } else {
+            insert((int) (frame & MASK), task);
+        }
+        metrics.actionScheduled(++pending);
+        return task;
+    }
+
+    public void advanceTimeBy(long delayNanos) {
+        long target;
+        synchronized (this) {
+            target = saturatedAdd(time, delayNanos);
+        }
+        advanceTimeTo(target);
+    }
+
+    public void advanceTimeTo(long timeNanos) {
+        ISchedulerMetrics metrics;
+        synchronized (this) {
+            metrics = this.metrics;
+        }
+        // without instrumentation, the wall clock is not even read
+        long start = metrics == ISchedulerMetrics.NONE ? 0 : System.nanoTime();
+        Task task;
+        while ((task = poll(timeNanos)) != null) {
+            // cancelled actions have been reported when cancelled
+            if (!task.cancelled) {
+                metrics.actionExecuted(frameOf(task.time));
+                task.action.run();
+            }
+        }
+        synchronized (this) {
+            time = timeNanos;
+            if (pending == 0) {
+                // otherwise actions scheduled after a long idle advance would all go to the overflow queue
+                moveTo(frameOf(timeNanos));
+            }
+        }
+        if (metrics != ISchedulerMetrics.NONE) {
+            metrics.timeAdvanced(System.nanoTime() - start);
+        }
+    }
+
+    public void triggerActions() {
+        advanceTimeTo(now());
+    }
+
+    /**
+     * Drops every pending action and sets the clock back to zero.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < SLOTS; i++) {
+            heads[i] = null;
+            tails[i] = null;
+        }
+        for (int i = 0; i < busySlots.length; i++) {
+            busySlots[i] = 0;
+        }
+        overflow.clear();
+        pending = 0;
+        baseFrame = 0;
+        time = 0;
+    }
+
+    synchronized int overflowSize() {
+        return overflow.size();
+    }
+
+    private synchronized Task poll(long targetTime) {
+        int slot = nextBusySlot();
+        while (slot == -1 && !overflow.isEmpty()) {
+            // the wheel stays where it is when the next action is due after the target time
+            if (overflow.peek().time > targetTime) {
+                return null;
+            }
+            moveTo(frameOf(overflow.peek().time));
+            slot = nextBusySlot();
+        }
+        if (slot == -1) {
+            return null;
+        }
+        Task task = heads[slot];
+        if (task.time > targetTime) {
+            return null;
+        }
+        moveTo(baseFrame + ((slot - baseFrame) & MASK));
+        heads[slot] = task.next;
+        task.next = null;
+        task.polled = true;
+        pending--;
+        if (heads[slot] == null) {
+            tails[slot] = null;
+            busySlots[slot >>> 6] &= ~(1L << slot);
+        }
+        // as with rx test schedulers, the clock takes the time of the action being executed
+        time = task.time;
+        return task;
+    }
+
+    private void moveTo(long frame) {
+        if (frame <= baseFrame) {
+            return;
+        }
+        baseFrame = frame;
+        while (!overflow.isEmpty() && frameOf(overflow.peek().time) - baseFrame < SLOTS) {
+            Task task = overflow.poll();
+            insert((int) (frameOf(task.time) & MASK), task);
+        }
+    }
+
+    private synchronized void cancel(Task task) {
+        if (!task.cancelled && !task.polled) {
+            metrics.actionCancelled(frameOf(task.time));
+        }
+        task.cancelled = true;
+    }
+
+    private void insert(int slot, Task task) {
+        Task tail = tails[slot];
+        if (tail == null) {
+            heads[slot] = task;
+            tails[slot] = task;
+            busySlots[slot >>> 6] |= 1L << slot;
+        } else if (tail.time <= task.time) {
+            tail.next = task;
+            tails[slot] = task;
+        } else {
+            // only happens for actions scheduled between two frames, or late actions
+            Task previous = null;
+            Task current = heads[slot];
+            while (current.time <= task.time) {
+                previous = current;
+                current = current.next;
+            }
+            task.next = current;
+            if (previous == null) {
+                heads[slot] = task;
+            } else {
+                previous.next = task;
+            }
+        }
+    }
+
+    private int nextBusySlot() {
+        int start = (int) (baseFrame & MASK);
+        int word = start >>> 6;
+        long bits = busySlots[word] & (-1L << start);
+        for (int i = 0; i <= busySlots.length; i++) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            word = (word + 1) % busySlots.length;
+            bits = busySlots[word];
+        }
+        return -1;
+    }
+
+    private long frameOf(long timeNanos) {
+        long frame = timeNanos / frameNanos;
+        if (timeNanos < 0 && frame * frameNanos != timeNanos) {
+            frame--;
+        }
+        return frame;
+    }
+
+    private static long saturatedAdd(long first, long second) {
+        long result = first + second;
+        if (((first ^ result) & (second ^ result)) < 0) {
+            return second > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return result;
+    }
+
+    public static final class Task {
+        private final VirtualTimeEngine engine;
+        private final Runnable action;
+        private final long time;
+        private final long sequence;
+        private Task next;
+        private boolean polled;
+        private volatile boolean cancelled;
+
+        private Task(VirtualTimeEngine engine, Runnable action, long time, long sequence) {
+            this.engine = engine;
+            this.action = action;
+            this.time = time;
+            this.sequence = sequence;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public void cancel() {
+            engine.cancel(this);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.reactivestreams;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pending actions of a scheduler worker, cancelled all at once when the worker gets disposed so that the
+ * virtual time engine drops them and reports them as cancelled.
+ */
+public final class WorkerTasks {
+
+    private final VirtualTimeEngine engine;
+    private final Set<VirtualTimeEngine.Task> pending = new HashSet<>();
+    private boolean disposed = false;
+
+    public WorkerTasks(VirtualTimeEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * @return the scheduled task, or null when the worker has been disposed
+     */
+    public synchronized VirtualTimeEngine.Task schedule(Runnable action, long delayNanos) {
+        if (disposed) {
+            return null;
+        }
+        TrackedAction tracked = new TrackedAction(action);
+        tracked.task = engine.schedule(tracked, delayNanos);
+        pending.add(tracked.task);
+        return tracked.task;
+    }
+
+    /**
+     * @return the scheduled task, or null when the worker has been disposed
+     */
+    public synchronized VirtualTimeEngine.Task scheduleAt(Runnable action, long timeNanos) {
+        if (disposed) {
+            return null;
+        }
+        TrackedAction tracked = new TrackedAction(action);
+        tracked.task = engine.scheduleAt(tracked, timeNanos);
+        pending.add(tracked.task);
+        return tracked.task;
+    }
+
+    public void cancel(VirtualTimeEngine.Task task) {
+        synchronized (this) {
+            pending.remove(task);
+        }
+        task.cancel();
+    }
+
+    public void dispose() {
+        List<VirtualTimeEngine.Task> cancelled;
+        synchronized (this) {
+            disposed = true;
+            cancelled = new ArrayList<>(pending);
+            pending.clear();
+        }
+        for (VirtualTimeEngine.Task task : cancelled) {
+            task.cancel();
+        }
+    }
+
+    public synchronized boolean isDisposed() {
+        return disposed;
+    }
+
+    private final class TrackedAction implements Runnable {
+        private final Runnable action;
+        private VirtualTimeEngine.Task task;
+
+        TrackedAction(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            synchronized (WorkerTasks.this) {
+                pending.remove(task);
+            }
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.reactivestreams;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecorderTest {
+
+    @Test
+    public void should_be_disabled_by_default() {
+        assertThat(FlightRecorder.ENABLED).isFalse();
+        assertThat(FlightRecorder.beginComparison()).isNull();
+    }
+
+    @Test
+    public void should_ignore_missing_event_module() {
+        assertThat(FlightRecorder.load("org.reactivestreams.jfr.Missing")).isNull();
+    }
+}
@@ -0,0 +1,74 @@
+package org.reactivestreams;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotPublisherTest {
+
+    private final VirtualTimeEngine engine = new VirtualTimeEngine(TimeUnit.MILLISECONDS.toNanos(10));
+
+    private final Scheduler scheduler = new Scheduler() {
+        @Override
+        public void schedule(Runnable run, long delay, TimeUnit unit) {
+            engine.schedule(run, unit.toNanos(delay));
+        }
+
+        @Override
+        public long now(TimeUnit unit) {
+            return unit.convert(engine.now(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void dispose() {
+        }
+    };
+
+    @Test
+    public void should_release_subscribers_on_completion() {
+        HotPublisher<String> publisher = new HotPublisher<>(scheduler, Arrays.asList(
+                new Recorded<>(10, Notification.createOnNext("a")),
+                new Recorded<>(20, Notification.<String>createOnComplete())
+        ));
+        publisher.subscribe(new NoopSubscriber());
+        publisher.subscribe(new NoopSubscriber());
+
+        engine.advanceTimeTo(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(publisher.getRetainedSubscriberCount()).isEqualTo(2);
+        engine.advanceTimeTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(publisher.getRetainedSubscriberCount()).isEqualTo(0);
+        assertThat(publisher.getSubscriptions()).containsExactly(new SubscriptionLog(0, 20), new SubscriptionLog(0, 20));
+    }
+
+    @Test
+    public void should_release_subscribers_on_error() {
+        HotPublisher<String> publisher = new HotPublisher<>(scheduler, Arrays.asList(
+                new Recorded<>(10, Notification.<String>createOnError(new Exception()))
+        ));
+        publisher.subscribe(new NoopSubscriber());
+
+        engine.advanceTimeTo(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(publisher.getRetainedSubscriberCount()).isEqualTo(0);
+    }
+
+    private static class NoopSubscriber implements Subscriber<String> {
+        @Override
+        public void onSubscribe(Subscription s) {
+        }
+
+        @Override
+        public void onNext(String s) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
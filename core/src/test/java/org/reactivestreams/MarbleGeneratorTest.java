@@ -0,0 +1,37 @@
+package org.reactivestreams;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MarbleGeneratorTest {
+
+    @Test
+    public void should_generate_the_same_diagrams_from_the_same_seed() {
+        MarbleGenerator first = new MarbleGenerator(42);
+        MarbleGenerator second = new MarbleGenerator(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.next()).isEqualTo(second.next());
+        }
+    }
+
+    @Test
+    public void should_generate_valid_hot_diagrams() {
+        MarbleGenerator generator = new MarbleGenerator(42).hot().withValues("xy").withMaxFrames(30);
+
+        for (int i = 0; i < 1000; i++) {
+            String marbles = generator.next();
+            assertThat(marbles.length() - marbles.replace("^", "").length()).isEqualTo(1);
+            assertThat(marbles).matches("[-xy()^|#]+");
+            Parser.parseMarbles(marbles, 10);
+        }
+    }
+
+    @Test
+    public void should_shrink_by_removing_then_blanking_events() {
+        assertThat(MarbleGenerator.shrink("a^(bc)|")).containsExactly(
+                "^(bc)|", "a^|", "a^c|", "a^b|", "a^(bc)", "-^(bc)|", "a^-|", "a^(bc)-"
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package org.reactivestreams;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaterializedStreamTest {
+
+    private final List<Recorded<Object>> expected = Arrays.asList(
+            new Recorded<>(0, Notification.<Object>createOnNext("a")),
+            new Recorded<>(10, Notification.<Object>createOnNext("b")),
+            new Recorded<>(20, Notification.createOnComplete())
+    );
+
+    @Test
+    public void should_share_expected_notifications_when_stream_matches() {
+        MaterializedStream stream = new MaterializedStream(expected);
+        stream.add(new Recorded<>(0, Notification.<Object>createOnNext("a")));
+        stream.add(new Recorded<>(10, Notification.<Object>createOnNext("b")));
+        stream.add(new Recorded<>(20, Notification.createOnComplete()));
+
+        assertThat(stream).isEqualTo(expected);
+        assertThat(stream.get(1)).isSameAs(expected.get(1));
+    }
+
+    @Test
+    public void should_keep_actual_notifications_from_first_difference() {
+        MaterializedStream stream = new MaterializedStream(expected);
+        stream.add(new Recorded<>(0, Notification.<Object>createOnNext("a")));
+        stream.add(new Recorded<>(10, Notification.<Object>createOnNext("x")));
+
+        assertThat(stream).containsExactly(
+                new Recorded<>(0, Notification.<Object>createOnNext("a")),
+                new Recorded<>(10, Notification.<Object>createOnNext("x"))
+        );
+    }
+
+    @Test
+    public void should_buffer_notifications_without_expectation() {
+        MaterializedStream stream = new MaterializedStream(null);
+        stream.add(new Recorded<>(0, Notification.<Object>createOnNext("a")));
+
+        assertThat(stream).containsExactly(new Recorded<>(0, Notification.<Object>createOnNext("a")));
+    }
+}
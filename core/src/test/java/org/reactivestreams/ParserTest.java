@@ -159,4 +159,26 @@ public class ParserTest {
                 )
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_reuse_notifications_of_a_same_value() {
+        Map<String, Integer> values = new HashMap<>();
+        values.put("a", 1);
+        List<Recorded<Integer>> result = Parser.parseMarbles("a-a-(aa)", values, 10);
+
+        assertThat(result).hasSize(4);
+        assertThat(result.get(1).value).isSameAs(result.get(0).value);
+        assertThat(result.get(3).value).isSameAs(result.get(0).value);
+    }
+
+    @Test
+    public void should_parse_values_outside_ascii_range() {
+        List<Recorded<String>> result = Parser.parseMarbles("a-\u00e9|", 10);
+
+        assertThat(result).containsExactly(
+                new Recorded<>(0, Notification.createOnNext("a")),
+                new Recorded<>(20, Notification.createOnNext("\u00e9")),
+                new Recorded<>(30, Notification.<String>createOnComplete())
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package org.reactivestreams;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class PerformanceBaselineTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_detect_regression_against_stored_baseline() {
+        File file = new File(folder.getRoot(), "baselines.properties");
+        new PerformanceBaseline(file).check("test", measures(100, 1000));
+
+        try {
+            new PerformanceBaseline(file).withThreshold(0.2).check("test", measures(130, 1100));
+            fail("actions regressed");
+        } catch (PerformanceRegressionException ex) {
+            assertThat(ex.getMessage()).contains("schedulerActions: 130 instead of 100");
+            assertThat(ex.getMessage()).doesNotContain("virtualEvents");
+        }
+    }
+
+    @Test
+    public void should_ignore_time_regressions_within_slack() {
+        File file = new File(folder.getRoot(), "baselines.properties");
+        PerformanceBaseline baseline = new PerformanceBaseline(file);
+        Map<String, Long> measures = new LinkedHashMap<>();
+        measures.put(PerformanceBaseline.WALL_TIME, 1000L);
+        baseline.check("test", measures);
+
+        measures.put(PerformanceBaseline.WALL_TIME, 5000L);
+        baseline.check("test", measures);
+    }
+
+    @Test
+    public void should_only_report_regressions_when_warning() {
+        File file = new File(folder.getRoot(), "baselines.properties");
+        final List<String> warnings = new ArrayList<>();
+        PerformanceBaseline baseline = new PerformanceBaseline(file).warnOnly(new PerformanceBaseline.IRegressionListener() {
+            @Override
+            public void regressed(String test, String message) {
+                warnings.add(test + ": " + message);
+            }
+        });
+        baseline.check("test", measures(100, 1000));
+
+        baseline.check("test", measures(1000, 10000));
+
+        assertThat(warnings).hasSize(1);
+        assertThat(warnings.get(0)).startsWith("test: ").contains("schedulerActions: 1000 instead of 100");
+    }
+
+    private static Map<String, Long> measures(long actions, long events) {
+        Map<String, Long> measures = new LinkedHashMap<>();
+        measures.put(PerformanceBaseline.SCHEDULER_ACTIONS, actions);
+        measures.put(PerformanceBaseline.VIRTUAL_EVENTS, events);
+        measures.put(PerformanceBaseline.CPU_TIME, -1L);
+        return measures;
+    }
+}
@@ -0,0 +1,45 @@
+package org.reactivestreams;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class PropertyCheckTest {
+
+    @Test
+    public void should_check_every_scenario() {
+        final AtomicInteger checks = new AtomicInteger();
+
+        new PropertyCheck(new MarbleGenerator(42), 1000).withInputs(2).forAll(new IProperty() {
+            @Override
+            public void check(String... marbles) {
+                assertThat(marbles).hasSize(2);
+                checks.incrementAndGet();
+            }
+        });
+
+        assertThat(checks.get()).isEqualTo(1000);
+    }
+
+    @Test
+    public void should_shrink_failing_scenario() {
+        try {
+            new PropertyCheck(new MarbleGenerator(42).withMaxFrames(50), 1000).forAll(new IProperty() {
+                @Override
+                public void check(String... marbles) {
+                    if (marbles[0].contains("#") && marbles[0].contains("a")) {
+                        throw new IllegalStateException("boom");
+                    }
+                }
+            });
+            fail("property should fail");
+        } catch (PropertyFailedException ex) {
+            assertThat(ex.getGenerated()[0]).contains("#").contains("a");
+            assertThat(ex.getShrunk()).containsExactly("a#");
+            assertThat(ex.getMessage()).contains("boom");
+        }
+    }
+}
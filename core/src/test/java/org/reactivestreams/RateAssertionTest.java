@@ -0,0 +1,45 @@
+package org.reactivestreams;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateAssertionTest {
+
+    private static List<Recorded<?>> recording(String marbles) {
+        return new ArrayList<Recorded<?>>(Parser.parseMarbles(marbles, 10));
+    }
+
+    @Test
+    public void should_accept_stream_under_maximum_rate() {
+        RateAssertion assertion = new RateAssertion(true, 2, 4, 10);
+
+        assertThat(assertion.check(recording("a-b-c-d-|"))).isNull();
+    }
+
+    @Test
+    public void should_report_densest_window() {
+        RateAssertion assertion = new RateAssertion(true, 2, 4, 10);
+
+        assertThat(assertion.check(recording("a---b(cd)--e|")))
+                .isEqualTo("Expected at most 2 value(s) in any window of 4 frame(s), found 3 from frame 4 to frame 8 excluded");
+    }
+
+    @Test
+    public void should_accept_stream_over_minimum_rate() {
+        RateAssertion assertion = new RateAssertion(false, 1, 3, 10);
+
+        assertThat(assertion.check(recording("a-b-c--d|"))).isNull();
+    }
+
+    @Test
+    public void should_report_sparsest_window() {
+        RateAssertion assertion = new RateAssertion(false, 1, 3, 10);
+
+        assertThat(assertion.check(recording("a-b----c|")))
+                .isEqualTo("Expected at least 1 value(s) in any window of 3 frame(s), found 0 from frame 3 to frame 6 excluded");
+    }
+}
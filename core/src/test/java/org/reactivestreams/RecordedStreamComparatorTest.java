@@ -1,16 +1,16 @@
-package rx.marble;
+package org.reactivestreams;
 
 import org.junit.Test;
-import rx.Notification;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
-import static rx.Notification.createOnError;
-import static rx.Notification.createOnNext;
-import static rx.marble.RecordedStreamComparator.EventComparisonResult.*;
+import static org.reactivestreams.Notification.createOnError;
+import static org.reactivestreams.Notification.createOnNext;
+import static org.reactivestreams.RecordedStreamComparator.EventComparisonResult.*;
 
 /**
  * Created by Alexandre Victoor on 26/10/2016.
@@ -21,7 +21,7 @@ public class RecordedStreamComparatorTest {
     @Test
     public void should_detect_missing_event_in_actual_records() {
         // given
-        Recorded<?> onCompletedEvent = new Recorded<>(10, Notification.createOnCompleted());
+        Recorded<?> onCompletedEvent = new Recorded<>(10, Notification.createOnComplete());
         List<Recorded<?>> actualRecords = asList();
         List<Recorded<?>> expectedRecords = new ArrayList<>();
         expectedRecords.add(onCompletedEvent);
@@ -40,7 +40,7 @@ public class RecordedStreamComparatorTest {
     @Test
     public void should_detect_additional_event_in_actual_records() {
         // given
-        Recorded<Object> onCompletedEvent = new Recorded<>(10, Notification.createOnCompleted());
+        Recorded<Object> onCompletedEvent = new Recorded<>(10, Notification.createOnComplete());
         List<Recorded<?>> actualRecords = new ArrayList<>();
         actualRecords.add(onCompletedEvent);
         List<Recorded<?>> expectedRecords = asList();
@@ -87,7 +87,7 @@ public class RecordedStreamComparatorTest {
     @Test
     public void should_detect_equal_and_different_records() {
         // given
-        Recorded<?> onCompletedEvent = new Recorded<>(20, Notification.createOnCompleted());
+        Recorded<?> onCompletedEvent = new Recorded<>(20, Notification.createOnComplete());
         List<Recorded<?>> actualRecords = asList(
                 new Recorded<>(5, createOnNext(12)),
                 onCompletedEvent
@@ -113,7 +113,7 @@ public class RecordedStreamComparatorTest {
     @Test
     public void should_put_on_completed_events_after() {
         // given
-        Recorded<?> onCompletedEvent = new Recorded<>(20, Notification.createOnCompleted());
+        Recorded<?> onCompletedEvent = new Recorded<>(20, Notification.createOnComplete());
         List<Recorded<?>> actualRecords = asList(
                 new Recorded<>(20, createOnNext(12)),
                 onCompletedEvent
@@ -134,4 +134,78 @@ public class RecordedStreamComparatorTest {
     }
 
 
-}
\ No newline at end of file
+    @Test
+    public void should_match_shifted_events_within_tolerance() {
+        // given
+        List<Recorded<?>> actualRecords = asList(
+                new Recorded<>(30, createOnNext("a")),
+                new Recorded<>(40, createOnNext("a")),
+                new Recorded<>(80, Notification.createOnComplete())
+        );
+        List<Recorded<?>> expectedRecords = asList(
+                new Recorded<>(20, createOnNext("a")),
+                new Recorded<>(50, createOnNext("a")),
+                new Recorded<>(80, Notification.createOnComplete())
+        );
+        // when
+        RecordedStreamComparator.StreamComparison result
+                = new RecordedStreamComparator().compare(actualRecords, expectedRecords, 10);
+        // then
+        assertThat(result.streamEquals).isTrue();
+        assertThat(result.unitComparisons).containsExactly(
+                new RecordedStreamComparator.EventComparison(new Recorded<>(30, createOnNext("a")), EQUALS, 10),
+                new RecordedStreamComparator.EventComparison(new Recorded<>(40, createOnNext("a")), EQUALS, -10),
+                new RecordedStreamComparator.EventComparison(new Recorded<>(80, Notification.createOnComplete()), EQUALS)
+        );
+        assertThat(result.unitComparisons.get(1).toString()).contains("shifted by -10");
+    }
+
+    @Test
+    public void should_detect_events_beyond_tolerance() {
+        // given
+        List<Recorded<?>> actualRecords = Arrays.<Recorded<?>>asList(
+                new Recorded<>(10, createOnNext("a")),
+                new Recorded<>(50, createOnNext("b"))
+        );
+        List<Recorded<?>> expectedRecords = Arrays.<Recorded<?>>asList(
+                new Recorded<>(30, createOnNext("a")),
+                new Recorded<>(50, createOnNext("c"))
+        );
+        // when
+        RecordedStreamComparator.StreamComparison result
+                = new RecordedStreamComparator().compare(actualRecords, expectedRecords, 10);
+        // then
+        assertThat(result.streamEquals).isFalse();
+        assertThat(result.unitComparisons).containsOnly(
+                new RecordedStreamComparator.EventComparison(new Recorded<>(10, createOnNext("a")), ONLY_ON_ACTUAL),
+                new RecordedStreamComparator.EventComparison(new Recorded<>(30, createOnNext("a")), ONLY_ON_EXPECTED),
+                new RecordedStreamComparator.EventComparison(new Recorded<>(50, createOnNext("b")), ONLY_ON_ACTUAL),
+                new RecordedStreamComparator.EventComparison(new Recorded<>(50, createOnNext("c")), ONLY_ON_EXPECTED)
+        );
+    }
+
+    @Test
+    public void should_detect_event_emitted_twice_in_the_same_frame() {
+        // given
+        List<Recorded<?>> actualRecords = Arrays.<Recorded<?>>asList(
+                new Recorded<>(10, createOnNext("a")),
+                new Recorded<>(10, createOnNext("a")),
+                new Recorded<>(20, createOnNext("b"))
+        );
+        List<Recorded<?>> expectedRecords = Arrays.<Recorded<?>>asList(
+                new Recorded<>(10, createOnNext("a")),
+                new Recorded<>(20, createOnNext("b"))
+        );
+        // when
+        RecordedStreamComparator.StreamComparison result
+                = new RecordedStreamComparator().compare(actualRecords, expectedRecords);
+        // then
+        assertThat(result.streamEquals).isFalse();
+        assertThat(result.unitComparisons).containsOnly(
+                new RecordedStreamComparator.EventComparison(new Recorded<>(10, createOnNext("a")), EQUALS),
+                new RecordedStreamComparator.EventComparison(new Recorded<>(10, createOnNext("a")), ONLY_ON_ACTUAL),
+                new RecordedStreamComparator.EventComparison(new Recorded<>(20, createOnNext("b")), EQUALS)
+        );
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.reactivestreams;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class TimelineBuilderTest {
+
+    @Test
+    public void should_build_the_same_timeline_as_the_equivalent_marble_diagram() {
+        List<Recorded<String>> timeline = new TimelineBuilder<String>(10)
+                .next("a")
+                .skip(2)
+                .group("b", "c")
+                .next("d")
+                .complete()
+                .build();
+
+        assertThat(timeline).isEqualTo(Parser.parseMarbles("a--(bc)d|", 10));
+    }
+
+    @Test
+    public void should_end_timeline_with_an_error() {
+        List<Recorded<String>> timeline = new TimelineBuilder<String>(10)
+                .at(3)
+                .error(new Exception())
+                .build();
+
+        assertThat(timeline).isEqualTo(Parser.parseMarbles("---#", 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_not_go_back_in_time() {
+        new TimelineBuilder<String>(10).skip(5).at(2);
+    }
+
+    @Test
+    public void should_not_change_built_timeline() {
+        TimelineBuilder<String> builder = new TimelineBuilder<String>(10).next("a");
+        List<Recorded<String>> timeline = builder.build();
+
+        try {
+            builder.next("b");
+            fail("Timeline should not be appended once built");
+        } catch (IllegalStateException ex) {
+            assertThat(timeline).hasSize(1);
+        }
+        try {
+            timeline.clear();
+            fail("Timeline should be read only");
+        } catch (UnsupportedOperationException ex) {
+            assertThat(builder.build()).isSameAs(timeline);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.reactivestreams;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualTimeEngineTest {
+
+    private final VirtualTimeEngine engine = new VirtualTimeEngine(10);
+    private final List<String> log = new ArrayList<>();
+
+    private Runnable log(final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                log.add(name + "@" + engine.now());
+            }
+        };
+    }
+
+    @Test
+    public void should_run_actions_ordered_by_time() {
+        engine.schedule(log("c"), 30);
+        engine.schedule(log("a"), 10);
+        engine.schedule(log("b"), 20);
+        engine.advanceTimeTo(100);
+        assertThat(log).containsExactly("a@10", "b@20", "c@30");
+        assertThat(engine.now()).isEqualTo(100);
+    }
+
+    @Test
+    public void should_run_simultaneous_actions_in_fifo_order() {
+        engine.schedule(log("a"), 10);
+        engine.schedule(log("b"), 10);
+        engine.schedule(log("c"), 10);
+        engine.advanceTimeTo(10);
+        assertThat(log).containsExactly("a@10", "b@10", "c@10");
+    }
+
+    @Test
+    public void should_order_actions_scheduled_between_two_frames() {
+        engine.schedule(log("b"), 15);
+        engine.schedule(log("c"), 15);
+        engine.schedule(log("a"), 12);
+        engine.schedule(log("d"), 19);
+        engine.advanceTimeTo(20);
+        assertThat(log).containsExactly("a@12", "b@15", "c@15", "d@19");
+    }
+
+    @Test
+    public void should_not_run_actions_after_target_time() {
+        engine.schedule(log("a"), 10);
+        engine.schedule(log("b"), 30);
+        engine.advanceTimeTo(20);
+        assertThat(log).containsExactly("a@10");
+        engine.advanceTimeBy(10);
+        assertThat(log).containsExactly("a@10", "b@30");
+    }
+
+    @Test
+    public void should_run_actions_scheduled_during_dispatch() {
+        engine.schedule(new Runnable() {
+            @Override
+            public void run() {
+                engine.schedule(log("b"), 0);
+                engine.schedule(log("c"), 10);
+            }
+        }, 10);
+        engine.schedule(log("a"), 10);
+        engine.advanceTimeTo(100);
+        assertThat(log).containsExactly("a@10", "b@10", "c@20");
+    }
+
+    @Test(timeout = 2000)
+    public void should_keep_scheduling_in_constant_time_while_an_action_waits_beyond_the_wheel() {
+        engine.schedule(log("far"), 100000);
+        engine.advanceTimeTo(100);
+        for (int i = 0; i < 100000; i++) {
+            // each action would be inserted after every other one if the wheel had moved to the far action
+            engine.schedule(new Runnable() {
+                @Override
+                public void run() {
+                }
+            }, 10 + (i % 1000) * 10);
+        }
+        engine.schedule(log("near"), 10);
+        engine.advanceTimeTo(200000);
+        assertThat(log).containsExactly("near@110", "far@100000");
+    }
+
+    @Test
+    public void should_move_the_wheel_along_idle_advances() {
+        engine.advanceTimeBy(5000 * 10);
+        for (int i = 0; i < 1000; i++) {
+            engine.schedule(log("a" + i), 10 + i * 10);
+        }
+        assertThat(engine.overflowSize()).isZero();
+        engine.advanceTimeBy(20);
+        assertThat(log).containsExactly("a0@50010", "a1@50020");
+    }
+
+    @Test
+    public void should_skip_cancelled_actions() {
+        VirtualTimeEngine.Task task = engine.schedule(log("a"), 10);
+        engine.schedule(log("b"), 10);
+        task.cancel();
+        engine.advanceTimeTo(100);
+        assertThat(log).containsExactly("b@10");
+    }
+
+    @Test
+    public void should_run_actions_beyond_the_wheel_horizon() {
+        engine.schedule(log("far"), 1000000);
+        engine.schedule(log("farther"), 2000000);
+        engine.schedule(log("near"), 10);
+        engine.advanceTimeTo(Long.MAX_VALUE);
+        assertThat(log).containsExactly("near@10", "far@1000000", "farther@2000000");
+    }
+
+    @Test
+    public void should_run_late_actions_first() {
+        engine.advanceTimeTo(50);
+        engine.schedule(log("b"), 0);
+        engine.schedule(log("a"), -20);
+        engine.triggerActions();
+        assertThat(log).containsExactly("a@30", "b@50");
+    }
+
+    @Test
+    public void should_saturate_time_overflow() {
+        engine.advanceTimeTo(50);
+        engine.schedule(log("a"), Long.MAX_VALUE);
+        engine.advanceTimeTo(Long.MAX_VALUE);
+        assertThat(log).containsExactly("a@" + Long.MAX_VALUE);
+    }
+
+    @Test
+    public void should_drop_pending_actions_on_reset() {
+        engine.schedule(log("a"), 10);
+        engine.schedule(log("b"), 50000);
+        engine.advanceTimeTo(10);
+        engine.reset();
+        engine.schedule(log("c"), 20);
+        engine.advanceTimeTo(Long.MAX_VALUE);
+        assertThat(log).containsExactly("a@10", "c@20");
+    }
+
+    @Test
+    public void should_report_metrics() {
+        SchedulerMetricsReport metrics = new SchedulerMetricsReport();
+        engine.setMetrics(metrics);
+        engine.schedule(log("a"), 10);
+        engine.schedule(log("b"), 10);
+        engine.schedule(log("c"), 20);
+        engine.schedule(log("d"), 30).cancel();
+        engine.advanceTimeTo(100);
+
+        assertThat(metrics.getScheduled()).isEqualTo(4);
+        assertThat(metrics.getExecuted()).isEqualTo(3);
+        assertThat(metrics.getCancelled()).isEqualTo(1);
+        assertThat(metrics.getMaxPendingActions()).isEqualTo(4);
+        assertThat(metrics.getAdvances()).isEqualTo(1);
+        assertThat(metrics.getActionsPerFrame()[0]).isEqualTo(1);
+        assertThat(metrics.getActionsPerFrame()[1]).isEqualTo(1);
+        assertThat(metrics.toString()).contains("actions cancelled:      1");
+    }
+
+    @Test
+    public void should_report_actions_cancelled_before_their_frame() {
+        SchedulerMetricsReport metrics = new SchedulerMetricsReport();
+        engine.setMetrics(metrics);
+        VirtualTimeEngine.Task executed = engine.schedule(log("a"), 10);
+        VirtualTimeEngine.Task pending = engine.schedule(log("b"), 50);
+        engine.advanceTimeTo(20);
+        executed.cancel();
+        pending.cancel();
+        pending.cancel();
+
+        assertThat(metrics.getExecuted()).isEqualTo(1);
+        assertThat(metrics.getCancelled()).isEqualTo(1);
+    }
+}
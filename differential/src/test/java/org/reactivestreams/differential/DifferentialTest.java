@@ -0,0 +1,147 @@
+package org.reactivestreams.differential;
+
+import org.junit.Test;
+import org.reactivestreams.DifferentialReport;
+import org.reactivestreams.DifferentialRunner;
+import org.reactivestreams.ExpectPublisherException;
+import org.reactivestreams.IDifferentialPipeline;
+import org.reactivestreams.Recorded;
+import reactor.MarbleScheduler;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DifferentialTest {
+
+    private static final IDifferentialPipeline RX1_PIPELINE = new IDifferentialPipeline() {
+        @Override
+        public List<Recorded<?>> run(String... marbles) {
+            rx.marble.MarbleScheduler scheduler = new rx.marble.MarbleScheduler();
+            rx.Observable<String> output = scheduler.<String>createColdObservable(marbles[0])
+                    .filter(new rx.functions.Func1<String, Boolean>() {
+                        @Override
+                        public Boolean call(String s) {
+                            return !s.equals("b");
+                        }
+                    })
+                    .map(new rx.functions.Func1<String, String>() {
+                        @Override
+                        public String call(String s) {
+                            return s.toUpperCase();
+                        }
+                    });
+            List<Recorded<?>> timeline = new ArrayList<>();
+            scheduler.expectObservable(output).captureInto(timeline);
+            scheduler.flush();
+            return timeline;
+        }
+    };
+
+    private static final IDifferentialPipeline RX2_PIPELINE = new IDifferentialPipeline() {
+        @Override
+        public List<Recorded<?>> run(String... marbles) {
+            io.reactivex.marble.MarbleScheduler scheduler = new io.reactivex.marble.MarbleScheduler();
+            io.reactivex.Observable<String> output = scheduler.<String>createColdObservable(marbles[0])
+                    .filter(new io.reactivex.functions.Predicate<String>() {
+                        @Override
+                        public boolean test(String s) {
+                            return !s.equals("b");
+                        }
+                    })
+                    .map(new io.reactivex.functions.Function<String, String>() {
+                        @Override
+                        public String apply(String s) {
+                            return s.toUpperCase();
+                        }
+                    });
+            List<Recorded<?>> timeline = new ArrayList<>();
+            scheduler.expectObservable(output).captureInto(timeline);
+            scheduler.flush();
+            return timeline;
+        }
+    };
+
+    private static final IDifferentialPipeline REACTOR_PIPELINE = new IDifferentialPipeline() {
+        @Override
+        public List<Recorded<?>> run(String... marbles) {
+            MarbleScheduler scheduler = new MarbleScheduler();
+            Flux<String> output = scheduler.<String>createColdFlux(marbles[0])
+                    .filter(new Predicate<String>() {
+                        @Override
+                        public boolean test(String s) {
+                            return !s.equals("b");
+                        }
+                    })
+                    .map(new Function<String, String>() {
+                        @Override
+                        public String apply(String s) {
+                            return s.toUpperCase();
+                        }
+                    });
+            List<Recorded<?>> timeline = new ArrayList<>();
+            scheduler.expectFlux(output).captureInto(timeline);
+            scheduler.flush();
+            return timeline;
+        }
+    };
+
+    @Test
+    public void should_find_the_same_timeline_with_every_library() {
+        DifferentialReport report = new DifferentialRunner()
+                .add("RxJava1", RX1_PIPELINE)
+                .add("RxJava2", RX2_PIPELINE)
+                .add("Reactor", REACTOR_PIPELINE)
+                .withWarmup(2)
+                .withIterations(3)
+                .run("a-b-(cb)--d-#");
+
+        report.assertConsistent();
+        assertThat(report.getResults()).hasSize(3);
+        assertThat(report.getResults().get(2).timeline).hasSize(4);
+        assertThat(report.toString()).contains("Reactor compared to RxJava1: same timeline");
+    }
+
+    @Test
+    public void should_run_warm_up_iterations_before_measured_ones() {
+        final List<String> runs = new ArrayList<>();
+        new DifferentialRunner()
+                .add("Reactor", new IDifferentialPipeline() {
+                    @Override
+                    public List<Recorded<?>> run(String... marbles) {
+                        runs.add(marbles[0]);
+                        return REACTOR_PIPELINE.run(marbles);
+                    }
+                })
+                .withWarmup(2)
+                .withIterations(3)
+                .run("a-b-|")
+                .assertConsistent();
+
+        assertThat(runs).hasSize(5);
+    }
+
+    @Test(expected = ExpectPublisherException.class)
+    public void should_report_timelines_differing_from_the_reference() {
+        IDifferentialPipeline unfiltered = new IDifferentialPipeline() {
+            @Override
+            public List<Recorded<?>> run(String... marbles) {
+                MarbleScheduler scheduler = new MarbleScheduler();
+                List<Recorded<?>> timeline = new ArrayList<>();
+                scheduler.expectFlux(scheduler.createColdFlux(marbles[0])).captureInto(timeline);
+                scheduler.flush();
+                return timeline;
+            }
+        };
+
+        new DifferentialRunner()
+                .add("RxJava2", RX2_PIPELINE)
+                .add("Reactor", unfiltered)
+                .run("a-b-|")
+                .assertConsistent();
+    }
+}
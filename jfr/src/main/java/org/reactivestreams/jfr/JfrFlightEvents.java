@@ -0,0 +1,110 @@
+package org.reactivestreams.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.reactivestreams.IFlightEvents;
+
+/**
+ * Flight Recorder event types, instantiated by the core when the <i>marbletest4j.jfr</i> system property is set.
+ */
+public final class JfrFlightEvents implements IFlightEvents {
+
+    @Override
+    public Object beginFlush() {
+        FlushEvent event = new FlushEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endFlush(Object begun, long time, int expectations, int failures) {
+        FlushEvent event = (FlushEvent) begun;
+        event.end();
+        if (event.shouldCommit()) {
+            event.time = time;
+            event.expectations = expectations;
+            event.failures = failures;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginDispatch() {
+        DispatchEvent event = new DispatchEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endDispatch(Object begun, long time, int subscribers, boolean hot) {
+        DispatchEvent event = (DispatchEvent) begun;
+        event.end();
+        if (event.shouldCommit()) {
+            event.time = time;
+            event.subscribers = subscribers;
+            event.hot = hot;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginComparison() {
+        ComparisonEvent event = new ComparisonEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endComparison(Object begun, int actualSize, int expectedSize, boolean equal) {
+        ComparisonEvent event = (ComparisonEvent) begun;
+        event.end();
+        if (event.shouldCommit()) {
+            event.actualSize = actualSize;
+            event.expectedSize = expectedSize;
+            event.equal = equal;
+            event.commit();
+        }
+    }
+
+    @Name("marbletest4j.Flush")
+    @Label("Marble Flush")
+    @Category("MarbleTest4J")
+    @Description("Evaluation of the expectations of a marble scheduler")
+    static class FlushEvent extends Event {
+        @Label("Virtual Time")
+        long time;
+        @Label("Expectations")
+        int expectations;
+        @Label("Failures")
+        int failures;
+    }
+
+    @Name("marbletest4j.Dispatch")
+    @Label("Marble Dispatch")
+    @Category("MarbleTest4J")
+    @Description("Notification sent by a test source to its subscribers")
+    static class DispatchEvent extends Event {
+        @Label("Virtual Time")
+        long time;
+        @Label("Subscribers")
+        int subscribers;
+        @Label("Hot Source")
+        boolean hot;
+    }
+
+    @Name("marbletest4j.Comparison")
+    @Label("Marble Comparison")
+    @Category("MarbleTest4J")
+    @Description("Comparison of a recorded stream with the expected one")
+    static class ComparisonEvent extends Event {
+        @Label("Actual Notifications")
+        int actualSize;
+        @Label("Expected Notifications")
+        int expectedSize;
+        @Label("Equal")
+        boolean equal;
+    }
+}
@@ -0,0 +1,36 @@
+package org.reactivestreams.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JfrFlightEventsTest {
+
+    @Test
+    public void should_record_comparison_events() throws IOException {
+        JfrFlightEvents events = new JfrFlightEvents();
+        File file = File.createTempFile("marbletest4j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("marbletest4j.Comparison");
+            recording.start();
+            Object event = events.beginComparison();
+            events.endComparison(event, 3, 4, false);
+            recording.stop();
+            recording.dump(file.toPath());
+        }
+
+        List<RecordedEvent> recorded = RecordingFile.readAllEvents(file.toPath());
+        file.delete();
+        assertThat(recorded).hasSize(1);
+        assertThat(recorded.get(0).getInt("actualSize")).isEqualTo(3);
+        assertThat(recorded.get(0).getInt("expectedSize")).isEqualTo(4);
+        assertThat(recorded.get(0).getBoolean("equal")).isFalse();
+    }
+}
@@ -0,0 +1,206 @@
+package org.reactivestreams.processor;
+
+import org.reactivestreams.MarbleDiagram;
+import org.reactivestreams.Parser;
+import org.reactivestreams.Recorded;
+import org.reactivestreams.SubscriptionLog;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks the String constants annotated with {@link MarbleDiagram} and generates, for each top level class,
+ * a class holding the parsed diagrams as {@link org.reactivestreams.PrecomputedMarbles} constants.
+ * Invalid diagrams are reported as compilation errors.
+ */
+public class MarbleDiagramProcessor extends AbstractProcessor {
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(MarbleDiagram.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Messager messager = processingEnv.getMessager();
+        Map<TypeElement, Map<String, String>> constantsByClass = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(MarbleDiagram.class)) {
+            VariableElement field = (VariableElement) element;
+            Object marbles = field.getConstantValue();
+            if (!field.getModifiers().contains(Modifier.STATIC) || !(marbles instanceof String)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@MarbleDiagram should annotate a static final String constant", field);
+                continue;
+            }
+            try {
+                String constant = field.getAnnotation(MarbleDiagram.class).subscription()
+                        ? parseSubscription((String) marbles)
+                        : parse((String) marbles);
+                TypeElement topLevelClass = topLevelClassOf(field);
+                Map<String, String> constants = constantsByClass.get(topLevelClass);
+                if (constants == null) {
+                    constants = new LinkedHashMap<>();
+                    constantsByClass.put(topLevelClass, constants);
+                }
+                String name = field.getSimpleName().toString();
+                if (constants.containsKey(name)) {
+                    // constants of nested classes all end up in the class generated for the top level one
+                    messager.printMessage(Diagnostic.Kind.ERROR, "Another @MarbleDiagram constant named " + name
+                            + " is already generated in " + topLevelClass.getSimpleName() + "Marbles", field);
+                    continue;
+                }
+                constants.put(name, "    public static final PrecomputedMarbles " + name
+                        + "\n            = " + constant + ";\n");
+            } catch (IllegalArgumentException ex) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Invalid marble diagram \"" + marbles + "\": " + ex.getMessage(), field);
+            }
+        }
+        for (Map.Entry<TypeElement, Map<String, String>> entry : constantsByClass.entrySet()) {
+            generate(entry.getKey(), entry.getValue().values());
+        }
+        return true;
+    }
+
+    static String parse(String marbles) {
+        validate(marbles);
+        List<Recorded<String>> events = Parser.parseMarbles(marbles, 1);
+        long[] frames = new long[events.size()];
+        char[] keys = new char[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            Recorded<String> event = events.get(i);
+            frames[i] = event.time;
+            if (event.value.isOnNext()) {
+                keys[i] = event.value.getValue().charAt(0);
+            } else {
+                keys[i] = event.value.isOnError() ? '#' : '|';
+            }
+        }
+        return precomputed(frames, keys);
+    }
+
+    static String parseSubscription(String marbles) {
+        SubscriptionLog subscription = Parser.parseMarblesAsSubscriptions(marbles, 1);
+        List<Long> frames = new ArrayList<>(2);
+        StringBuilder keys = new StringBuilder(2);
+        if (subscription.subscribe != Long.MAX_VALUE) {
+            frames.add(subscription.subscribe);
+            keys.append('^');
+        }
+        if (subscription.unsubscribe != Long.MAX_VALUE) {
+            frames.add(subscription.unsubscribe);
+            keys.append('!');
+        }
+        long[] frameArray = new long[frames.size()];
+        for (int i = 0; i < frameArray.length; i++) {
+            frameArray[i] = frames.get(i);
+        }
+        return precomputed(frameArray, keys.toString().toCharArray());
+    }
+
+    /**
+     * Rejects mistakes that the runtime parser silently accepts.
+     */
+    private static void validate(String marbles) {
+        if (marbles.indexOf('^') != marbles.lastIndexOf('^')) {
+            throw new IllegalArgumentException("there can only be one subscription point '^'");
+        }
+        boolean inGroup = false;
+        for (int i = 0; i < marbles.length(); i++) {
+            char c = marbles.charAt(i);
+            if (c == '(') {
+                if (inGroup) {
+                    throw new IllegalArgumentException("nested group at index " + i);
+                }
+                inGroup = true;
+            } else if (c == ')') {
+                if (!inGroup) {
+                    throw new IllegalArgumentException("group closed at index " + i + " was never opened");
+                }
+                inGroup = false;
+            } else if (c > 127) {
+                throw new IllegalArgumentException("non ASCII character at index " + i);
+            }
+        }
+        if (inGroup) {
+            throw new IllegalArgumentException("group is never closed");
+        }
+    }
+
+    private static String precomputed(long[] frames, char[] keys) {
+        StringBuilder builder = new StringBuilder("new PrecomputedMarbles(new long[]{");
+        for (int i = 0; i < frames.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(frames[i]).append('L');
+        }
+        builder.append("}, new char[]{");
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append('\'');
+            if (keys[i] == '\'' || keys[i] == '\\') {
+                builder.append('\\');
+            }
+            builder.append(keys[i]).append('\'');
+        }
+        return builder.append("})").toString();
+    }
+
+    private static TypeElement topLevelClassOf(Element element) {
+        Element current = element;
+        while (current.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+            current = current.getEnclosingElement();
+        }
+        return (TypeElement) current;
+    }
+
+    private void generate(TypeElement topLevelClass, Collection<String> constants) {
+        PackageElement packageElement = (PackageElement) topLevelClass.getEnclosingElement();
+        String packageName = packageElement.getQualifiedName().toString();
+        String className = topLevelClass.getSimpleName() + "Marbles";
+        Filer filer = processingEnv.getFiler();
+        try {
+            JavaFileObject file = filer.createSourceFile(
+                    packageName.isEmpty() ? className : packageName + "." + className, topLevelClass);
+            try (Writer writer = file.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    writer.write("package " + packageName + ";\n\n");
+                }
+                writer.write("import org.reactivestreams.PrecomputedMarbles;\n\n");
+                writer.write("/**\n * Marble diagrams of {@link " + topLevelClass.getSimpleName()
+                        + "}, parsed at compile time.\n */\n");
+                writer.write("public final class " + className + " {\n\n");
+                writer.write("    private " + className + "() {\n    }\n\n");
+                for (String constant : constants) {
+                    writer.write(constant);
+                }
+                writer.write("}\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot generate " + className + ": " + e.getMessage(), topLevelClass);
+        }
+    }
+}
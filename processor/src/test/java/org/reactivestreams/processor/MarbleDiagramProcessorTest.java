@@ -0,0 +1,108 @@
+package org.reactivestreams.processor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactivestreams.Parser;
+import org.reactivestreams.PrecomputedMarbles;
+import org.reactivestreams.SubscriptionLog;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MarbleDiagramProcessorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_generate_precomputed_diagrams() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("demo", "DemoTest",
+                "    @MarbleDiagram static final String INPUT = \"--a-(bc)--#\";\n"
+                        + "    @MarbleDiagram static final String HOT = \"a-^-b-|\";\n"
+                        + "    @MarbleDiagram(subscription = true) static final String SUBSCRIPTION = \"^---!\";\n");
+
+        assertThat(diagnostics.getDiagnostics()).isEmpty();
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[]{ folder.getRoot().toURI().toURL() }, getClass().getClassLoader())) {
+            Class<?> generated = loader.loadClass("demo.DemoTestMarbles");
+            PrecomputedMarbles input = (PrecomputedMarbles) generated.getField("INPUT").get(null);
+            PrecomputedMarbles hot = (PrecomputedMarbles) generated.getField("HOT").get(null);
+            PrecomputedMarbles subscription = (PrecomputedMarbles) generated.getField("SUBSCRIPTION").get(null);
+
+            assertThat(input.toTimeline(10)).isEqualTo(Parser.parseMarbles("--a-(bc)--#", 10));
+            assertThat(hot.toTimeline(10)).isEqualTo(Parser.parseMarbles("a-^-b-|", 10));
+            SubscriptionLog log = subscription.toSubscriptionLog(10);
+            assertThat(log).isEqualTo(Parser.parseMarblesAsSubscriptions("^---!", 10));
+        }
+    }
+
+    @Test
+    public void should_break_build_on_second_subscription_point() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("demo", "BrokenTest",
+                "    @MarbleDiagram(subscription = true) static final String SUBSCRIPTION = \"^--^--!\";\n");
+
+        assertThat(diagnostics.getDiagnostics()).hasSize(1);
+        Diagnostic<? extends JavaFileObject> diagnostic = diagnostics.getDiagnostics().get(0);
+        assertThat(diagnostic.getKind()).isEqualTo(Diagnostic.Kind.ERROR);
+        assertThat(diagnostic.getMessage(null)).contains("^--^--!").contains("second subscription point");
+    }
+
+    @Test
+    public void should_break_build_on_unclosed_group() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("demo", "BrokenTest",
+                "    @MarbleDiagram static final String INPUT = \"--(ab--|\";\n");
+
+        assertThat(diagnostics.getDiagnostics()).hasSize(1);
+        assertThat(diagnostics.getDiagnostics().get(0).getMessage(null)).contains("group is never closed");
+    }
+
+    @Test
+    public void should_break_build_on_constants_sharing_a_name_in_nested_classes() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("demo", "BrokenTest",
+                "    static class First {\n"
+                        + "        @MarbleDiagram static final String INPUT = \"--a--|\";\n"
+                        + "    }\n"
+                        + "    static class Second {\n"
+                        + "        @MarbleDiagram static final String INPUT = \"--b--|\";\n"
+                        + "    }\n");
+
+        assertThat(diagnostics.getDiagnostics()).hasSize(1);
+        assertThat(diagnostics.getDiagnostics().get(0).getMessage(null))
+                .contains("INPUT").contains("BrokenTestMarbles");
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(String packageName, String className, String body)
+            throws IOException {
+        File source = new File(folder.newFolder("src", packageName), className + ".java");
+        try (PrintWriter writer = new PrintWriter(source, "UTF-8")) {
+            writer.print("package " + packageName + ";\n\n"
+                    + "import org.reactivestreams.MarbleDiagram;\n\n"
+                    + "public class " + className + " {\n" + body + "}\n");
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    Arrays.asList("-d", folder.getRoot().getPath(), "-s", folder.getRoot().getPath(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, fileManager.getJavaFileObjects(source));
+            task.setProcessors(Collections.singletonList(new MarbleDiagramProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+}
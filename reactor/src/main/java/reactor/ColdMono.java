@@ -0,0 +1,52 @@
+package reactor;
+
+import org.reactivestreams.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cold mono emitting the first value of a marble diagram, or its terminal event when there is no value
+ */
+public class ColdMono<T> extends Mono<T> implements TestablePublisher<T> {
+
+    private final TestablePublisher<T> publisher;
+
+    protected ColdMono(TestablePublisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        publisher.subscribe(new MonoSubscriberAdapter<>(s));
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<T>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    public static <T> ColdMono<T> create(Scheduler scheduler, Recorded<T>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static <T> ColdMono<T> create(final Scheduler scheduler, List<Recorded<T>> notifications) {
+
+        ColdPublisher<T> coldPublisher = new ColdPublisher<>(new SchedulerFactory() {
+            @Override
+            public org.reactivestreams.Scheduler create() {
+                return new SchedulerAdapter(scheduler);
+            }
+        }, notifications);
+
+        return new ColdMono<>(coldPublisher);
+    }
+
+}
@@ -5,12 +5,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Scheduler;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Created by Alexandre Victoor on 18/04/2017.
  */
-public class HotFlux<T> extends Flux<T> implements TestablePublisher<T> {
+public class HotFlux<T> extends Flux<T> implements TestablePublisher<T>, IRetainingPublisher {
 
     private final TestablePublisher<T> publisher;
 
@@ -33,6 +34,13 @@ public class HotFlux<T> extends Flux<T> implements TestablePublisher<T> {
         return publisher.getMessages();
     }
 
+    @Override
+    public List<Object> getRetainedSubscribers() {
+        return publisher instanceof IRetainingPublisher
+                ? ((IRetainingPublisher) publisher).getRetainedSubscribers()
+                : Collections.<Object>emptyList();
+    }
+
     public static <T> HotFlux<T> create(Scheduler scheduler, Recorded<T>... notifications) {
         return create(scheduler, Arrays.asList(notifications));
     }
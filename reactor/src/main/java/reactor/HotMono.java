@@ -0,0 +1,53 @@
+package reactor;
+
+import org.reactivestreams.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hot mono emitting the first value of a marble diagram, or its terminal event when there is no value
+ */
+public class HotMono<T> extends Mono<T> implements TestablePublisher<T>, IRetainingPublisher {
+
+    private final TestablePublisher<T> publisher;
+
+    protected HotMono(TestablePublisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        publisher.subscribe(new MonoSubscriberAdapter<>(s));
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<T>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    @Override
+    public List<Object> getRetainedSubscribers() {
+        return publisher instanceof IRetainingPublisher
+                ? ((IRetainingPublisher) publisher).getRetainedSubscribers()
+                : Collections.<Object>emptyList();
+    }
+
+    public static <T> HotMono<T> create(Scheduler scheduler, Recorded<T>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static <T> HotMono<T> create(Scheduler scheduler, List<Recorded<T>> notifications) {
+        HotPublisher<T> hotPublisher = new HotPublisher<>(new SchedulerAdapter(scheduler), notifications);
+        return new HotMono<>(hotPublisher);
+    }
+
+}
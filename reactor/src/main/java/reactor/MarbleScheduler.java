@@ -0,0 +1,281 @@
+package reactor;
+
+import org.reactivestreams.*;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.TimedScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by Alexandre Victoor on 20/04/2017.
+ * <p>
+ * Up to 1.3 this scheduler extended reactor-test VirtualTimeScheduler, whose workers cannot be replaced.
+ * It now provides the same time control methods on top of the marble virtual time engine.
+ */
+public class MarbleScheduler implements TimedScheduler, DigestReplay.IScheduler,
+        PerformanceBaseline.IScheduler {
+    private final VirtualTimeEngine engine;
+    private final MarbleWorker directWorker;
+    private final MarbleSchedulerState state;
+    private final long frameTimeFactor;
+
+    public MarbleScheduler() {
+        this(10);
+    }
+
+    public MarbleScheduler(long frameTimeFactor) {
+        this.frameTimeFactor = frameTimeFactor;
+        engine = new VirtualTimeEngine(TimeUnit.MILLISECONDS.toNanos(frameTimeFactor));
+        directWorker = new MarbleWorker(engine);
+        state = new MarbleSchedulerState(frameTimeFactor, new MarbleSchedulerState.ISchedule() {
+            @Override
+            public long now() {
+                return MarbleScheduler.this.now(TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void schedule(Runnable runnable, long time) {
+                MarbleScheduler.this.schedule(runnable, time, TimeUnit.MILLISECONDS);
+            }
+        }, getClass());
+    }
+
+    public void advanceTime() {
+        engine.triggerActions();
+    }
+
+    public void advanceTimeBy(Duration delayTime) {
+        engine.advanceTimeBy(delayTime.toNanos());
+    }
+
+    public void advanceTimeTo(Instant instant) {
+        engine.advanceTimeTo(TimeUnit.MILLISECONDS.toNanos(instant.toEpochMilli()));
+    }
+
+    @Override
+    public TimedWorker createWorker() {
+        return new MarbleWorker(engine);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+        return directWorker.schedule(task);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return directWorker.schedule(task, delay, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return directWorker.schedulePeriodically(task, initialDelay, period, unit);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return unit.convert(engine.now(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void shutdown() {
+        directWorker.shutdown();
+    }
+
+    @Override
+    public void dispose() {
+        directWorker.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return directWorker.isDisposed();
+    }
+
+    public <T> ColdFlux<T> createColdFlux(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(ColdFlux.create(this, notifications), marbles, false);
+    }
+
+    public <T> ColdFlux<T> createColdFlux(String marbles) {
+        return createColdFlux(marbles, null);
+    }
+
+    public <T> ColdFlux<T> createColdFlux(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(ColdFlux.create(this, notifications), marbles.toString(), false);
+    }
+
+    public <T> ColdFlux<T> createColdFlux(PrecomputedMarbles marbles) {
+        return createColdFlux(marbles, null);
+    }
+
+    public <T> HotFlux<T> createHotFlux(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(HotFlux.create(this, notifications), marbles, true);
+    }
+
+    public <T> HotFlux<T> createHotFlux(String marbles) {
+        return createHotFlux(marbles, null);
+    }
+
+    public <T> HotFlux<T> createHotFlux(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(HotFlux.create(this, notifications), marbles.toString(), true);
+    }
+
+    public <T> HotFlux<T> createHotFlux(PrecomputedMarbles marbles) {
+        return createHotFlux(marbles, null);
+    }
+
+    public <T> ColdMono<T> createColdMono(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(ColdMono.create(this, notifications), marbles, false);
+    }
+
+    public <T> ColdMono<T> createColdMono(String marbles) {
+        return createColdMono(marbles, null);
+    }
+
+    public <T> ColdMono<T> createColdMono(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(ColdMono.create(this, notifications), marbles.toString(), false);
+    }
+
+    public <T> ColdMono<T> createColdMono(PrecomputedMarbles marbles) {
+        return createColdMono(marbles, null);
+    }
+
+    public <T> HotMono<T> createHotMono(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(HotMono.create(this, notifications), marbles, true);
+    }
+
+    public <T> HotMono<T> createHotMono(String marbles) {
+        return createHotMono(marbles, null);
+    }
+
+    public <T> HotMono<T> createHotMono(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(HotMono.create(this, notifications), marbles.toString(), true);
+    }
+
+    public <T> HotMono<T> createHotMono(PrecomputedMarbles marbles) {
+        return createHotMono(marbles, null);
+    }
+
+
+    /**
+     * Runs the virtual clock up to the given frame, excluded, and captures the notifications sent meanwhile by
+     * the prefix of a scenario. The scheduler should then be reset or dropped, see {@link Checkpoint}.
+     */
+    public <T> Checkpoint<T> checkpoint(Flux<T> prefix, long frame) {
+        List<Recorded<?>> timeline = state.recordPublisher(prefix);
+        engine.advanceTimeTo(TimeUnit.MILLISECONDS.toNanos(frame * frameTimeFactor));
+        return state.checkpoint(timeline, frame);
+    }
+
+    /**
+     * Creates a hot source replaying the notifications of a checkpoint, at their original times.
+     */
+    public <T> HotFlux<T> fork(Checkpoint<T> checkpoint) {
+        return state.track(HotFlux.create(this, checkpoint.getTimeline()), checkpoint.toString(), true);
+    }
+
+    public long createTime(String marbles) {
+        int endIndex = marbles.indexOf("|");
+        if (endIndex == -1) {
+            throw new RuntimeException("Marble diagram for time should have a completion marker '|'");
+        }
+
+        return endIndex * frameTimeFactor;
+    }
+
+
+    public void flush() {
+        advanceTimeTo(Instant.ofEpochMilli(Long.MAX_VALUE));
+        state.flush();
+    }
+
+    public <T> ISetupTest expectFlux(Flux<T> flux) {
+        return expectFlux(flux, null);
+    }
+
+    public <T> ISetupTest expectFlux(Flux<T> flux, String unsubscriptionMarbles) {
+        return state.expectPublisher(flux, unsubscriptionMarbles);
+    }
+
+    public <T> ISetupTest expectMono(Mono<T> mono) {
+        return expectMono(mono, null);
+    }
+
+    public <T> ISetupTest expectMono(Mono<T> mono, String unsubscriptionMarbles) {
+        return state.expect(MonoSubscriberForExpect.source(mono), unsubscriptionMarbles);
+    }
+
+    public ISetupSubscriptionsTest expectSubscriptions(List<SubscriptionLog> subscriptions) {
+        return state.expectSubscriptions(subscriptions);
+    }
+
+    /**
+     * Enables or disables digest recording, disabled by default.
+     * When enabled, only a digest of the streams under test is kept and a mismatch is reported with a
+     * {@link DigestMismatchException}, without any detail.
+     */
+    public void setDigestRecording(boolean digestRecording) {
+        state.setDigestRecording(digestRecording);
+    }
+
+    /**
+     * Drops every pending action, expectation and source, and sets the clock back to zero.
+     */
+    public void reset() {
+        engine.reset();
+        state.reset();
+    }
+
+    /**
+     * Sets how many levels of nested streams get materialized as marble diagrams, 1 by default.
+     */
+    public void setInnerStreamDepth(int innerStreamDepth) {
+        state.setInnerStreamDepth(innerStreamDepth);
+    }
+
+    /**
+     * Enables or disables on the fly comparison of inner streams, enabled by default.
+     * When enabled, inner streams matching their expectation are not buffered.
+     */
+    public void setDigestMatchingInnerStreams(boolean digestMatchingInnerStreams) {
+        state.setDigestMatchingInnerStreams(digestMatchingInnerStreams);
+    }
+
+    /**
+     * Instruments this scheduler, see {@link SchedulerMetricsReport} for a ready to print implementation.
+     */
+    public void setMetrics(ISchedulerMetrics metrics) {
+        engine.setMetrics(metrics);
+        state.setMetrics(metrics);
+    }
+
+    public ISchedulerMetrics getMetrics() {
+        return engine.getMetrics();
+    }
+
+    /**
+     * Lists the subscriptions to the sources created by this scheduler that were neither cancelled nor terminated,
+     * to be called after {@link #flush()}.
+     */
+    public List<String> findLeaks() {
+        return state.findLeaks();
+    }
+}
@@ -0,0 +1,132 @@
+package reactor;
+
+import org.reactivestreams.VirtualTimeEngine;
+import org.reactivestreams.WorkerTasks;
+import reactor.core.Disposable;
+import reactor.core.scheduler.TimedScheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker scheduling actions on the virtual time engine of a marble scheduler
+ */
+class MarbleWorker implements TimedScheduler.TimedWorker {
+
+    private static final Disposable DISPOSED = new Disposable() {
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return true;
+        }
+    };
+
+    private final VirtualTimeEngine engine;
+    private final WorkerTasks tasks;
+
+    MarbleWorker(VirtualTimeEngine engine) {
+        this.engine = engine;
+        this.tasks = new WorkerTasks(engine);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+        return schedule(task, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Disposable schedule(final Runnable task, long delay, TimeUnit unit) {
+        final VirtualTimeEngine.Task scheduled = tasks.schedule(task, unit.toNanos(delay));
+        if (scheduled == null) {
+            return DISPOSED;
+        }
+        return new Disposable() {
+            @Override
+            public void dispose() {
+                tasks.cancel(scheduled);
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return scheduled.isCancelled();
+            }
+        };
+    }
+
+    @Override
+    public Disposable schedulePeriodically(final Runnable task, long initialDelay, long period, TimeUnit unit) {
+        final long periodNanos = unit.toNanos(period);
+        final long start = engine.now() + unit.toNanos(initialDelay);
+        final PeriodicTask periodicTask = new PeriodicTask(task, start, periodNanos);
+        periodicTask.current = tasks.scheduleAt(periodicTask, start);
+        if (periodicTask.current == null) {
+            return DISPOSED;
+        }
+        return periodicTask;
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return unit.convert(engine.now(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        tasks.dispose();
+    }
+
+    @Override
+    public void dispose() {
+        tasks.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return tasks.isDisposed();
+    }
+
+    private class PeriodicTask implements Runnable, Disposable {
+        private final Runnable task;
+        private final long start;
+        private final long period;
+        private long count = 0;
+        private volatile boolean cancelled = false;
+        private volatile VirtualTimeEngine.Task current;
+
+        PeriodicTask(Runnable task, long start, long period) {
+            this.task = task;
+            this.start = start;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            task.run();
+            if (cancelled) {
+                return;
+            }
+            count++;
+            // next execution computed from the start to avoid any drift, nothing is scheduled once disposed
+            current = tasks.scheduleAt(this, start + count * period);
+        }
+
+        @Override
+        public void dispose() {
+            cancelled = true;
+            VirtualTimeEngine.Task task = current;
+            if (task != null) {
+                tasks.cancel(task);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled || tasks.isDisposed();
+        }
+    }
+}
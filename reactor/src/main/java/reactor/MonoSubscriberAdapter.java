@@ -0,0 +1,61 @@
+package reactor;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Feeds a mono with the first value of a marble source, cancelling the source right after
+ */
+class MonoSubscriberAdapter<T> implements Subscriber<T> {
+
+    private final Subscriber<? super T> subscriber;
+    private Subscription subscription;
+    private boolean done = false;
+
+    MonoSubscriberAdapter(Subscriber<? super T> subscriber) {
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        this.subscription = subscription;
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                subscription.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+                subscription.cancel();
+            }
+        });
+    }
+
+    @Override
+    public void onNext(T t) {
+        if (!done) {
+            done = true;
+            subscription.cancel();
+            subscriber.onNext(t);
+            subscriber.onComplete();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!done) {
+            done = true;
+            subscriber.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package reactor;
+
+import org.reactivestreams.MarbleSchedulerState;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records a mono, requesting its only value and nothing more
+ */
+class MonoSubscriberForExpect<T> implements Subscriber<T>, MarbleSchedulerState.ICancel {
+
+    private final MarbleSchedulerState.Recorder recorder;
+    private Subscription subscription;
+
+    MonoSubscriberForExpect(MarbleSchedulerState.Recorder recorder) {
+        this.recorder = recorder;
+    }
+
+    static <T> MarbleSchedulerState.IExpectSource source(final Mono<T> mono) {
+        return new MarbleSchedulerState.IExpectSource() {
+            @Override
+            public MarbleSchedulerState.ICancel subscribe(MarbleSchedulerState.Recorder recorder) {
+                MonoSubscriberForExpect<T> subscriber = new MonoSubscriberForExpect<>(recorder);
+                mono.subscribe(subscriber);
+                return subscriber;
+            }
+        };
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscription = s;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(T t) {
+        recorder.onNext(t);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        recorder.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        recorder.onComplete();
+    }
+
+    @Override
+    public void cancel() {
+        subscription.cancel();
+    }
+}
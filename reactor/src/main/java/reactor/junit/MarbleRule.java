@@ -0,0 +1,150 @@
+package reactor.junit;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.reactivestreams.DigestReplay;
+import org.reactivestreams.ISetupSubscriptionsTest;
+import org.reactivestreams.ISetupTest;
+import org.reactivestreams.PerformanceBaseline;
+import org.reactivestreams.PrecomputedMarbles;
+import org.reactivestreams.SubscriptionLog;
+import reactor.ColdFlux;
+import reactor.ColdMono;
+import reactor.HotFlux;
+import reactor.HotMono;
+import reactor.MarbleScheduler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by Alexandre Victoor on 26/04/2017.
+ */
+public class MarbleRule implements TestRule {
+
+    private static ThreadLocal<MarbleScheduler> schedulerHolder = new ThreadLocal<>();
+
+    public final MarbleScheduler scheduler;
+    private boolean digestRecording = false;
+    private PerformanceBaseline baseline;
+
+    public MarbleRule() {
+        scheduler = new MarbleScheduler();
+    }
+
+    public MarbleRule(long frameTimeFactor) {
+        scheduler = new MarbleScheduler(frameTimeFactor);
+    }
+
+    /**
+     * Only keeps a digest of the streams under test. When a digest does not match, the test is run again
+     * with a full recording in order to report the differences.
+     */
+    public MarbleRule withDigestRecording() {
+        digestRecording = true;
+        return this;
+    }
+
+    /**
+     * Measures each passing test and compares it with its baseline, see {@link PerformanceBaseline}.
+     * The same baseline instance can be shared by several rules.
+     */
+    public MarbleRule withBaseline(PerformanceBaseline baseline) {
+        this.baseline = baseline;
+        return this;
+    }
+
+    public static <T> HotFlux<T> hot(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createHotFlux(marbles, values);
+    }
+
+    public static HotFlux<String> hot(String marbles) {
+        return schedulerHolder.get().createHotFlux(marbles);
+    }
+
+    public static HotFlux<String> hot(PrecomputedMarbles marbles) {
+        return schedulerHolder.get().createHotFlux(marbles);
+    }
+
+    public static <T> ColdFlux<T> cold(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createColdFlux(marbles, values);
+    }
+
+    public static ColdFlux<String> cold(String marbles) {
+        return schedulerHolder.get().createColdFlux(marbles);
+    }
+
+    public static ColdFlux<String> cold(PrecomputedMarbles marbles) {
+        return schedulerHolder.get().createColdFlux(marbles);
+    }
+
+    public static <T> HotMono<T> hotMono(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createHotMono(marbles, values);
+    }
+
+    public static HotMono<String> hotMono(String marbles) {
+        return schedulerHolder.get().createHotMono(marbles);
+    }
+
+    public static <T> ColdMono<T> coldMono(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createColdMono(marbles, values);
+    }
+
+    public static ColdMono<String> coldMono(String marbles) {
+        return schedulerHolder.get().createColdMono(marbles);
+    }
+
+    public static ISetupTest expectFlux(Flux<?> actual) {
+        return schedulerHolder.get().expectFlux(actual);
+    }
+
+    public static ISetupTest expectFlux(Flux<?> actual, String unsubscriptionMarbles) {
+        return schedulerHolder.get().expectFlux(actual, unsubscriptionMarbles);
+    }
+
+    public static ISetupTest expectMono(Mono<?> actual) {
+        return schedulerHolder.get().expectMono(actual);
+    }
+
+    public static ISetupTest expectMono(Mono<?> actual, String unsubscriptionMarbles) {
+        return schedulerHolder.get().expectMono(actual, unsubscriptionMarbles);
+    }
+
+    public static ISetupSubscriptionsTest expectSubscriptions(List<SubscriptionLog> subscriptions) {
+        return schedulerHolder.get().expectSubscriptions(subscriptions);
+    }
+
+    @Override
+    public Statement apply(final Statement base, final Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                schedulerHolder.set(scheduler);
+                try {
+                    DigestReplay.ITest test = new DigestReplay.ITest() {
+                        @Override
+                        public void run() throws Throwable {
+                            DigestReplay.run(scheduler, digestRecording, new DigestReplay.ITest() {
+                                @Override
+                                public void run() throws Throwable {
+                                    base.evaluate();
+                                }
+                            });
+                        }
+                    };
+                    if (baseline == null) {
+                        test.run();
+                    } else {
+                        baseline.run(description.getDisplayName(), scheduler, test);
+                    }
+                } finally {
+                    schedulerHolder.remove();
+                }
+
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -5,7 +5,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import reactor.ColdFlux;
+import reactor.ColdMono;
 import reactor.HotFlux;
+import reactor.HotMono;
 import reactor.MarbleScheduler;
 import reactor.core.publisher.Flux;
 
@@ -16,7 +18,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static io.reactivex.marble.MapHelper.of;
+import static reactor.MapHelper.of;
 
 public class MarbleSchedulerTest {
 
@@ -258,4 +260,70 @@ public class MarbleSchedulerTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void should_report_all_failures_in_registration_order() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        ColdFlux<?> myFlux
+                = scheduler.createColdFlux(     "---a---b--|");
+        scheduler.expectSubscriptions(myFlux.getSubscriptions()).toBe("^-----------!");
+        scheduler.expectFlux(myFlux).toBe("---a---c--|");
+        scheduler.expectFlux(myFlux).toBe("---a---b--|");
+        scheduler.expectFlux(myFlux).toBe("---a---d--|");
+        try {
+            scheduler.flush();
+        } catch(ExpectationsFailedException ex) {
+            assertThat(ex.getFailures()).hasSize(3);
+            assertThat(ex.getFailures().get(0)).isInstanceOf(ExpectSubscriptionsException.class);
+            assertThat(ex.getFailures().get(1)).isInstanceOf(ExpectPublisherException.class);
+            assertThat(ex.getFailures().get(2)).isInstanceOf(ExpectPublisherException.class);
+            assertThat(ex.getMessage()).contains("3 expectations failed").contains("On Next: c").contains("On Next: d");
+            return;
+        }
+        throw new AssertionError("flush should have failed");
+    }
+
+    @Test(expected = ExpectPublisherException.class)
+    public void should_throw_the_failure_itself_when_only_one_expectation_fails() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        ColdFlux<?> myFlux
+                = scheduler.createColdFlux(     "---a---b--|");
+        scheduler.expectFlux(myFlux).toBe("---a---b--|");
+        scheduler.expectFlux(myFlux).toBe("---a---c--|");
+        scheduler.flush();
+    }
+
+    @Test
+    public void should_compare_several_expectations_on_flush() {
+        ColdFlux<String> myFlux = scheduler.createColdFlux("---a---b--|");
+        for (int i = 0; i < 10; i++) {
+            scheduler.expectFlux(myFlux).toBe("---a---b--|");
+        }
+    }
+
+    @Test
+    public void should_cancel_cold_mono_on_first_value() {
+        ColdMono<String> source = scheduler.createColdMono("--a--b--|");
+        String subs =                                      "^-!";
+        scheduler.expectMono(source).toBe("--(a|)");
+        scheduler.expectSubscriptions(source.getSubscriptions()).toBe(subs);
+    }
+
+    @Test
+    public void should_complete_hot_mono_without_value() {
+        HotMono<String> source = scheduler.createHotMono("---|");
+        scheduler.expectMono(source).toBe("---|");
+    }
+
+    @Test
+    public void should_expect_mono_built_from_flux() {
+        HotFlux<String> source = scheduler.createHotFlux("--a--b--|");
+        scheduler.expectMono(source.last()).toBe("--------(b|)");
+    }
+
+    @Test
+    public void should_schedule_periodic_actions() {
+        Flux<Long> source = Flux.interval(Duration.ofMillis(10), scheduler).take(3);
+        scheduler.expectFlux(source).toBe("-ab(c|)", of("a", 0L, "b", 1L, "c", 2L));
+    }
+
+}
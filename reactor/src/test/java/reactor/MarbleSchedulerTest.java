@@ -0,0 +1,54 @@
+package reactor;
+
+import org.junit.Test;
+import org.reactivestreams.SchedulerMetricsReport;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MarbleSchedulerTest {
+
+    @Test
+    public void should_cancel_pending_actions_of_a_disposed_worker() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        SchedulerMetricsReport metrics = new SchedulerMetricsReport();
+        scheduler.setMetrics(metrics);
+        final StringBuilder log = new StringBuilder();
+        MarbleWorker worker = (MarbleWorker) scheduler.createWorker();
+        worker.schedule(new Runnable() {
+            @Override
+            public void run() {
+                log.append("a");
+            }
+        }, 10, TimeUnit.MILLISECONDS);
+        worker.schedule(new Runnable() {
+            @Override
+            public void run() {
+                log.append("b");
+            }
+        }, 30, TimeUnit.MILLISECONDS);
+        worker.schedulePeriodically(new Runnable() {
+            @Override
+            public void run() {
+                log.append("p");
+            }
+        }, 0, 20, TimeUnit.MILLISECONDS);
+
+        scheduler.advanceTimeBy(Duration.ofMillis(20));
+        worker.dispose();
+        scheduler.advanceTimeBy(Duration.ofMillis(100));
+
+        assertThat(log.toString()).isEqualTo("pap");
+        assertThat(metrics.getExecuted()).isEqualTo(3);
+        assertThat(metrics.getCancelled()).isEqualTo(2);
+        assertThat(worker.schedule(new Runnable() {
+            @Override
+            public void run() {
+                log.append("c");
+            }
+        }).isDisposed()).isTrue();
+    }
+
+}
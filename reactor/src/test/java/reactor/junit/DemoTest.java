@@ -84,4 +84,26 @@ public class DemoTest {
         // then
         expectMono(output).toBe("--(A|)");
     }
+
+    @Test
+    public void should_map_cold_mono() {
+        // given
+        Mono<String> input = coldMono("--a--|");
+        // when
+        Mono<String> output = input.map(new Function<String, String>() {
+            @Override
+            public String apply(String s) {
+                return s.toUpperCase();
+            }
+        });
+        // then
+        expectMono(output).toBe("--(A|)");
+    }
+
+    @Test
+    public void should_use_unsubscription_diagram_with_mono() {
+        Mono<String> input = hotMono("------a|");
+        String unsubscribe =         "---!";
+        expectMono(input, unsubscribe).toBe("---");
+    }
 }
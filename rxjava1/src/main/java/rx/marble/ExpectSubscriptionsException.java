@@ -6,4 +6,8 @@ public class ExpectSubscriptionsException extends RuntimeException {
         super(message + "\n\n from assertion at " + caller + "\n\n----------------------\n");
     }
 
+    public ExpectSubscriptionsException(String message) {
+        super(message);
+    }
+
 }
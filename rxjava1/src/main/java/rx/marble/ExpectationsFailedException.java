@@ -0,0 +1,15 @@
+package rx.marble;
+
+import java.util.List;
+
+/**
+ * @deprecated moved to {@link org.reactivestreams.ExpectationsFailedException}, kept for one release so that
+ * existing catch clauses still work.
+ */
+@Deprecated
+public class ExpectationsFailedException extends org.reactivestreams.ExpectationsFailedException {
+
+    public ExpectationsFailedException(List<RuntimeException> failures) {
+        super(failures);
+    }
+}
@@ -0,0 +1,51 @@
+package rx.marble;
+
+import org.reactivestreams.*;
+import rx.Scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+public class HotObservable<T> extends rx.Observable<T> implements TestablePublisher<T>, IRetainingPublisher {
+
+    private final TestablePublisher<T> publisher;
+
+    protected HotObservable(TestablePublisher<T> publisher) {
+        super(new OnSubscribeAdapter<>(publisher));
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        publisher.subscribe(s);
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<T>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    @Override
+    public List<Object> getRetainedSubscribers() {
+        return publisher instanceof IRetainingPublisher
+                ? ((IRetainingPublisher) publisher).getRetainedSubscribers()
+                : Collections.<Object>emptyList();
+    }
+
+    public static <T> HotObservable<T> create(Scheduler scheduler, Recorded<T>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static <T> HotObservable<T> create(Scheduler scheduler, List<Recorded<T>> notifications) {
+        HotPublisher<T> hotPublisher = new HotPublisher<>(new SchedulerAdapter(scheduler), notifications);
+        return new HotObservable<>(hotPublisher);
+    }
+
+}
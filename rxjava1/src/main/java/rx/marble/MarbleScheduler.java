@@ -0,0 +1,238 @@
+package rx.marble;
+
+import org.reactivestreams.*;
+import rx.Observable;
+import rx.functions.Action0;
+import rx.schedulers.TestScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+public class MarbleScheduler extends TestScheduler implements DigestReplay.IScheduler,
+        PerformanceBaseline.IScheduler {
+
+    private final VirtualTimeEngine engine;
+    private final MarbleSchedulerState state;
+    private final long frameTimeFactor;
+
+    public MarbleScheduler(long frameTimeFactor) {
+
+        this.frameTimeFactor = frameTimeFactor;
+        engine = new VirtualTimeEngine(TimeUnit.MILLISECONDS.toNanos(frameTimeFactor));
+        state = new PatchedSchedulerState(frameTimeFactor, new MarbleSchedulerState.ISchedule() {
+            @Override
+            public long now() {
+                return MarbleScheduler.this.now();
+            }
+
+            @Override
+            public void schedule(final Runnable runnable, long time) {
+                MarbleScheduler.this.createWorker().schedule(new Action0() {
+                    @Override
+                    public void call() {
+                        runnable.run();
+                    }
+                }, time, TimeUnit.MILLISECONDS);
+            }
+        }, getClass());
+    }
+
+    public MarbleScheduler() {
+        this(10);
+    }
+
+    @Override
+    public long now() {
+        return TimeUnit.NANOSECONDS.toMillis(engine.now());
+    }
+
+    @Override
+    public void advanceTimeBy(long delayTime, TimeUnit unit) {
+        engine.advanceTimeBy(unit.toNanos(delayTime));
+    }
+
+    @Override
+    public void advanceTimeTo(long delayTime, TimeUnit unit) {
+        engine.advanceTimeTo(unit.toNanos(delayTime));
+    }
+
+    @Override
+    public void triggerActions() {
+        engine.triggerActions();
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new MarbleWorker(engine);
+    }
+
+    public <T> ColdObservable<T> createColdObservable(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(ColdObservable.create(this, notifications), marbles, false);
+    }
+
+    public <T> ColdObservable<T> createColdObservable(String marbles) {
+        return createColdObservable(marbles, null);
+    }
+
+    public <T> ColdObservable<T> createColdObservable(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(ColdObservable.create(this, notifications), marbles.toString(), false);
+    }
+
+    public <T> ColdObservable<T> createColdObservable(PrecomputedMarbles marbles) {
+        return createColdObservable(marbles, null);
+    }
+
+    public <T> HotObservable<T> createHotObservable(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(HotObservable.create(this, notifications), marbles, true);
+    }
+
+    public <T> HotObservable<T> createHotObservable(String marbles) {
+        return createHotObservable(marbles, null);
+    }
+
+    public <T> HotObservable<T> createHotObservable(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(HotObservable.create(this, notifications), marbles.toString(), true);
+    }
+
+    public <T> HotObservable<T> createHotObservable(PrecomputedMarbles marbles) {
+        return createHotObservable(marbles, null);
+    }
+
+
+    /**
+     * Runs the virtual clock up to the given frame, excluded, and captures the notifications sent meanwhile by
+     * the prefix of a scenario. The scheduler should then be reset or dropped, see {@link Checkpoint}.
+     */
+    public <T> Checkpoint<T> checkpoint(Observable<T> prefix, long frame) {
+        List<Recorded<?>> timeline = state.record(SubscriberForExpect.source(prefix));
+        engine.advanceTimeTo(TimeUnit.MILLISECONDS.toNanos(frame * frameTimeFactor));
+        return state.checkpoint(timeline, frame);
+    }
+
+    /**
+     * Creates a hot source replaying the notifications of a checkpoint, at their original times.
+     */
+    public <T> HotObservable<T> fork(Checkpoint<T> checkpoint) {
+        return state.track(HotObservable.create(this, checkpoint.getTimeline()), checkpoint.toString(), true);
+    }
+
+    public long createTime(String marbles) {
+        int endIndex = marbles.indexOf("|");
+        if (endIndex == -1) {
+            throw new RuntimeException("Marble diagram for time should have a completion marker '|'");
+        }
+
+        return endIndex * frameTimeFactor;
+    }
+
+    public void flush() {
+        advanceTimeTo(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        try {
+            state.flush();
+        } catch (org.reactivestreams.ExpectationsFailedException ex) {
+            List<RuntimeException> failures = new ArrayList<>();
+            for (RuntimeException failure : ex.getFailures()) {
+                failures.add(convert(failure));
+            }
+            throw new ExpectationsFailedException(failures);
+        } catch (RuntimeException ex) {
+            throw convert(ex);
+        }
+    }
+
+    private static RuntimeException convert(RuntimeException ex) {
+        if (ex instanceof ExpectPublisherException) {
+            return new ExpectObservableException(ex.getMessage());
+        }
+        if (ex instanceof org.reactivestreams.ExpectSubscriptionsException) {
+            return new ExpectSubscriptionsException(ex.getMessage());
+        }
+        return ex;
+    }
+
+    public <T> ISetupTest expectObservable(Observable<T> observable) {
+        return expectObservable(observable, null);
+    }
+
+    public <T> ISetupTest expectObservable(Observable<T> observable, String unsubscriptionMarbles) {
+        return state.expect(SubscriberForExpect.source(observable), unsubscriptionMarbles);
+    }
+
+    public ISetupSubscriptionsTest expectSubscriptions(List<SubscriptionLog> subscriptions) {
+        return state.expectSubscriptions(subscriptions);
+    }
+
+    /**
+     * Enables or disables digest recording, disabled by default.
+     * When enabled, only a digest of the streams under test is kept and a mismatch is reported with a
+     * {@link DigestMismatchException}, without any detail.
+     */
+    public void setDigestRecording(boolean digestRecording) {
+        state.setDigestRecording(digestRecording);
+    }
+
+    /**
+     * Drops every pending action, expectation and source, and sets the clock back to zero.
+     */
+    public void reset() {
+        engine.reset();
+        state.reset();
+    }
+
+    /**
+     * Sets how many levels of nested streams get materialized as marble diagrams, 1 by default.
+     */
+    public void setInnerStreamDepth(int innerStreamDepth) {
+        state.setInnerStreamDepth(innerStreamDepth);
+    }
+
+    /**
+     * Enables or disables on the fly comparison of inner streams, enabled by default.
+     * When enabled, inner streams matching their expectation are not buffered.
+     */
+    public void setDigestMatchingInnerStreams(boolean digestMatchingInnerStreams) {
+        state.setDigestMatchingInnerStreams(digestMatchingInnerStreams);
+    }
+
+    /**
+     * Instruments this scheduler, see {@link SchedulerMetricsReport} for a ready to print implementation.
+     */
+    public void setMetrics(ISchedulerMetrics metrics) {
+        engine.setMetrics(metrics);
+        state.setMetrics(metrics);
+    }
+
+    public ISchedulerMetrics getMetrics() {
+        return engine.getMetrics();
+    }
+
+    /**
+     * Lists the subscriptions to the sources created by this scheduler that were neither cancelled nor terminated,
+     * to be called after {@link #flush()}.
+     */
+    public List<String> findLeaks() {
+        return state.findLeaks();
+    }
+
+    public static class PatchedSchedulerState extends MarbleSchedulerState {
+
+        public PatchedSchedulerState(long frameTimeFactor, ISchedule scheduler, Class schedulerClass) {
+            super(frameTimeFactor, scheduler, schedulerClass);
+        }
+
+        @Override
+        protected Object materializeInnerStreamWhenNeeded(Object value) {
+            if (value instanceof Observable) {
+                return materializeInnerStream(SubscriberForExpect.source((Observable<?>) value));
+            }
+            return super.materializeInnerStreamWhenNeeded(value);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package rx.marble;
+
+import org.reactivestreams.VirtualTimeEngine;
+import org.reactivestreams.WorkerTasks;
+import rx.Scheduler;
+import rx.Subscription;
+import rx.functions.Action0;
+import rx.subscriptions.Subscriptions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker scheduling actions on the virtual time engine of a marble scheduler
+ */
+class MarbleWorker extends Scheduler.Worker {
+
+    private final VirtualTimeEngine engine;
+    private final WorkerTasks tasks;
+
+    MarbleWorker(VirtualTimeEngine engine) {
+        this.engine = engine;
+        this.tasks = new WorkerTasks(engine);
+    }
+
+    @Override
+    public Subscription schedule(Action0 action) {
+        return schedule(action, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Subscription schedule(final Action0 action, long delayTime, TimeUnit unit) {
+        final VirtualTimeEngine.Task task = tasks.schedule(new Runnable() {
+            @Override
+            public void run() {
+                action.call();
+            }
+        }, unit.toNanos(delayTime));
+        if (task == null) {
+            return Subscriptions.unsubscribed();
+        }
+        return new Subscription() {
+            @Override
+            public void unsubscribe() {
+                tasks.cancel(task);
+            }
+
+            @Override
+            public boolean isUnsubscribed() {
+                return task.isCancelled();
+            }
+        };
+    }
+
+    @Override
+    public long now() {
+        return TimeUnit.NANOSECONDS.toMillis(engine.now());
+    }
+
+    @Override
+    public void unsubscribe() {
+        tasks.dispose();
+    }
+
+    @Override
+    public boolean isUnsubscribed() {
+        return tasks.isDisposed();
+    }
+}
@@ -0,0 +1,22 @@
+package rx.marble;
+
+import org.reactivestreams.Publisher;
+import rx.Observable;
+import rx.Subscriber;
+
+/**
+ * Subscribes RxJava subscribers to a reactive streams publisher
+ */
+class OnSubscribeAdapter<T> implements Observable.OnSubscribe<T> {
+
+    private final Publisher<T> publisher;
+
+    OnSubscribeAdapter(Publisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> subscriber) {
+        publisher.subscribe(new SubscriberAdapter<>(subscriber));
+    }
+}
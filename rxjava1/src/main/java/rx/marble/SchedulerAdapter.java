@@ -0,0 +1,40 @@
+package rx.marble;
+
+import rx.Scheduler;
+import rx.functions.Action0;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets the publishers of the core schedule their notifications on an RxJava scheduler
+ */
+class SchedulerAdapter implements org.reactivestreams.Scheduler {
+
+    private final Scheduler scheduler;
+    private final Scheduler.Worker worker;
+
+    public SchedulerAdapter(Scheduler scheduler) {
+        this.scheduler = scheduler;
+        this.worker = scheduler.createWorker();
+    }
+
+    @Override
+    public void schedule(final Runnable run, long delay, TimeUnit unit) {
+        worker.schedule(new Action0() {
+            @Override
+            public void call() {
+                run.run();
+            }
+        }, delay, unit);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return unit.convert(scheduler.now(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void dispose() {
+        worker.unsubscribe();
+    }
+}
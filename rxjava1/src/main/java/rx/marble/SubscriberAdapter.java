@@ -0,0 +1,44 @@
+package rx.marble;
+
+import org.reactivestreams.Subscription;
+import rx.Subscriber;
+import rx.functions.Action0;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Lets an RxJava subscriber receive the notifications of a reactive streams publisher
+ */
+class SubscriberAdapter<T> implements org.reactivestreams.Subscriber<T> {
+
+    private final Subscriber<? super T> subscriber;
+
+    SubscriberAdapter(Subscriber<? super T> subscriber) {
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        subscriber.add(Subscriptions.create(new Action0() {
+            @Override
+            public void call() {
+                subscription.cancel();
+            }
+        }));
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(T t) {
+        subscriber.onNext(t);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        subscriber.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        subscriber.onCompleted();
+    }
+}
@@ -0,0 +1,48 @@
+package rx.marble;
+
+import org.reactivestreams.MarbleSchedulerState;
+import rx.Observable;
+import rx.Subscriber;
+
+/**
+ * Records an RxJava observable under test
+ */
+class SubscriberForExpect<T> extends Subscriber<T> implements MarbleSchedulerState.ICancel {
+
+    private final MarbleSchedulerState.Recorder recorder;
+
+    SubscriberForExpect(MarbleSchedulerState.Recorder recorder) {
+        this.recorder = recorder;
+    }
+
+    static <T> MarbleSchedulerState.IExpectSource source(final Observable<T> observable) {
+        return new MarbleSchedulerState.IExpectSource() {
+            @Override
+            public MarbleSchedulerState.ICancel subscribe(MarbleSchedulerState.Recorder recorder) {
+                SubscriberForExpect<T> subscriber = new SubscriberForExpect<>(recorder);
+                observable.subscribe(subscriber);
+                return subscriber;
+            }
+        };
+    }
+
+    @Override
+    public void onNext(T t) {
+        recorder.onNext(t);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        recorder.onError(throwable);
+    }
+
+    @Override
+    public void onCompleted() {
+        recorder.onComplete();
+    }
+
+    @Override
+    public void cancel() {
+        unsubscribe();
+    }
+}
@@ -1,14 +1,17 @@
-package io.reactivex.marble.junit;
+package rx.marble.junit;
 
 
-import io.reactivex.*;
-import io.reactivex.marble.*;
 import org.junit.rules.TestRule;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
+import org.reactivestreams.DigestReplay;
 import org.reactivestreams.ISetupSubscriptionsTest;
 import org.reactivestreams.ISetupTest;
+import org.reactivestreams.PerformanceBaseline;
+import org.reactivestreams.PrecomputedMarbles;
 import org.reactivestreams.SubscriptionLog;
+import rx.Observable;
+import rx.marble.*;
 
 import java.util.List;
 import java.util.Map;
@@ -18,6 +21,8 @@ public class MarbleRule implements TestRule {
     private static ThreadLocal<MarbleScheduler> schedulerHolder = new ThreadLocal<>();
 
     public final MarbleScheduler scheduler;
+    private boolean digestRecording = false;
+    private PerformanceBaseline baseline;
 
     public MarbleRule() {
         scheduler = new MarbleScheduler();
@@ -27,6 +32,24 @@ public class MarbleRule implements TestRule {
         scheduler = new MarbleScheduler(frameTimeFactor);
     }
 
+    /**
+     * Only keeps a digest of the streams under test. When a digest does not match, the test is run again
+     * with a full recording in order to report the differences.
+     */
+    public MarbleRule withDigestRecording() {
+        digestRecording = true;
+        return this;
+    }
+
+    /**
+     * Measures each passing test and compares it with its baseline, see {@link PerformanceBaseline}.
+     * The same baseline instance can be shared by several rules.
+     */
+    public MarbleRule withBaseline(PerformanceBaseline baseline) {
+        this.baseline = baseline;
+        return this;
+    }
+
     public static <T> HotObservable<T> hot(String marbles, Map<String, T> values) {
         return schedulerHolder.get().createHotObservable(marbles, values);
     }
@@ -35,6 +58,10 @@ public class MarbleRule implements TestRule {
         return schedulerHolder.get().createHotObservable(marbles);
     }
 
+    public static HotObservable<String> hot(PrecomputedMarbles marbles) {
+        return schedulerHolder.get().createHotObservable(marbles);
+    }
+
     public static <T> ColdObservable<T> cold(String marbles, Map<String, T> values) {
         return schedulerHolder.get().createColdObservable(marbles, values);
     }
@@ -43,6 +70,10 @@ public class MarbleRule implements TestRule {
         return schedulerHolder.get().createColdObservable(marbles);
     }
 
+    public static ColdObservable<String> cold(PrecomputedMarbles marbles) {
+        return schedulerHolder.get().createColdObservable(marbles);
+    }
+
     public static ISetupTest expectObservable(Observable<?> actual) {
         return schedulerHolder.get().expectObservable(actual);
     }
@@ -51,51 +82,33 @@ public class MarbleRule implements TestRule {
         return schedulerHolder.get().expectObservable(actual, unsubscriptionMarbles);
     }
 
-    public static ISetupTest expectFlowable(Flowable<?> actual) {
-        return schedulerHolder.get().expectFlowable(actual);
-    }
-
-    public static ISetupTest expectFlowable(Flowable<?> actual, String unsubscriptionMarbles) {
-        return schedulerHolder.get().expectFlowable(actual, unsubscriptionMarbles);
-    }
-
-    public static ISetupTest expectSingle(Single<?> actual) {
-        return schedulerHolder.get().expectFlowable(actual.toFlowable());
-    }
-
-    public static ISetupTest expectSingle(Single<?> actual, String unsubscriptionMarbles) {
-        return schedulerHolder.get().expectFlowable(actual.toFlowable(), unsubscriptionMarbles);
-    }
-
-    public static ISetupTest expectMaybe(Maybe<?> actual) {
-        return schedulerHolder.get().expectFlowable(actual.toFlowable());
-    }
-
-    public static ISetupTest expectCompletable(Completable actual, String unsubscriptionMarbles) {
-        return schedulerHolder.get().expectFlowable(actual.toFlowable(), unsubscriptionMarbles);
-    }
-
-    public static ISetupTest expectCompletable(Completable actual) {
-        return schedulerHolder.get().expectFlowable(actual.toFlowable());
-    }
-
-    public static ISetupTest expectMaybe(Maybe<?> actual, String unsubscriptionMarbles) {
-        return schedulerHolder.get().expectObservable(actual.toObservable(), unsubscriptionMarbles);
-    }
-
     public static ISetupSubscriptionsTest expectSubscriptions(List<SubscriptionLog> subscriptions) {
         return schedulerHolder.get().expectSubscriptions(subscriptions);
     }
 
     @Override
-    public Statement apply(final Statement base, Description description) {
+    public Statement apply(final Statement base, final Description description) {
         return new Statement() {
             @Override
             public void evaluate() throws Throwable {
                 schedulerHolder.set(scheduler);
                 try {
-                    base.evaluate();
-                    scheduler.flush();
+                    DigestReplay.ITest test = new DigestReplay.ITest() {
+                        @Override
+                        public void run() throws Throwable {
+                            DigestReplay.run(scheduler, digestRecording, new DigestReplay.ITest() {
+                                @Override
+                                public void run() throws Throwable {
+                                    base.evaluate();
+                                }
+                            });
+                        }
+                    };
+                    if (baseline == null) {
+                        test.run();
+                    } else {
+                        baseline.run(description.getDisplayName(), scheduler, test);
+                    }
                 } finally {
                     schedulerHolder.remove();
                 }
@@ -1,7 +1,9 @@
 package rx.marble;
 
 import org.junit.Test;
-import rx.Notification;
+import org.reactivestreams.Notification;
+import org.reactivestreams.Recorded;
+import org.reactivestreams.SubscriptionLog;
 import rx.Subscription;
 import rx.functions.Action0;
 import rx.observers.TestSubscriber;
@@ -1,7 +1,9 @@
 package rx.marble;
 
 import org.junit.Test;
-import rx.Notification;
+import org.reactivestreams.Notification;
+import org.reactivestreams.Recorded;
+import org.reactivestreams.SubscriptionLog;
 import rx.Subscription;
 import rx.functions.Action0;
 import rx.observers.TestSubscriber;
@@ -83,7 +85,7 @@ public class HotObservableTest {
         }, 42, TimeUnit.MILLISECONDS);
         // then
         scheduler.advanceTimeBy(42, TimeUnit.MILLISECONDS);
-        assertThat(hotObservable.subscriptions)
+        assertThat(hotObservable.getSubscriptions())
                 .containsExactly(
                         new SubscriptionLog(42, Long.MAX_VALUE)
                 );
@@ -105,7 +107,7 @@ public class HotObservableTest {
         }, 42, TimeUnit.MILLISECONDS);
         // then
         scheduler.advanceTimeBy(42, TimeUnit.MILLISECONDS);
-        assertThat(hotObservable.subscriptions)
+        assertThat(hotObservable.getSubscriptions())
                 .containsExactly(
                         new SubscriptionLog(0, 42)
                 );
@@ -134,7 +136,7 @@ public class HotObservableTest {
         }, 42, TimeUnit.MILLISECONDS);
         // then
         scheduler.advanceTimeBy(42, TimeUnit.MILLISECONDS);
-        assertThat(hotObservable.subscriptions)
+        assertThat(hotObservable.getSubscriptions())
                 .containsExactly(
                         new SubscriptionLog(0, 42),
                         new SubscriptionLog(36, Long.MAX_VALUE)
@@ -2,9 +2,12 @@ package rx.marble;
 
 
 import org.junit.After;
+import org.reactivestreams.ExpectationsFailedException;
+import org.reactivestreams.SchedulerMetricsReport;
 import org.junit.Before;
 import org.junit.Test;
 import rx.Observable;
+import rx.Scheduler;
 import rx.Subscription;
 import rx.functions.Action0;
 import rx.functions.Func1;
@@ -255,4 +258,74 @@ public class MarbleSchedulerTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void should_report_all_failures_in_registration_order() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        ColdObservable<?> myObservable
+                = scheduler.createColdObservable(     "---a---b--|");
+        scheduler.expectSubscriptions(myObservable.getSubscriptions()).toBe("^-----------!");
+        scheduler.expectObservable(myObservable).toBe("---a---c--|");
+        scheduler.expectObservable(myObservable).toBe("---a---b--|");
+        scheduler.expectObservable(myObservable).toBe("---a---d--|");
+        try {
+            scheduler.flush();
+        } catch(ExpectationsFailedException ex) {
+            assertThat(ex).isInstanceOf(rx.marble.ExpectationsFailedException.class);
+            assertThat(ex.getFailures()).hasSize(3);
+            assertThat(ex.getFailures().get(0)).isInstanceOf(ExpectSubscriptionsException.class);
+            assertThat(ex.getFailures().get(1)).isInstanceOf(ExpectObservableException.class);
+            assertThat(ex.getFailures().get(2)).isInstanceOf(ExpectObservableException.class);
+            assertThat(ex.getMessage()).contains("3 expectations failed").contains("On Next: c").contains("On Next: d");
+            return;
+        }
+        throw new AssertionError("flush should have failed");
+    }
+
+    @Test(expected = ExpectObservableException.class)
+    public void should_throw_the_failure_itself_when_only_one_expectation_fails() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        ColdObservable<?> myObservable
+                = scheduler.createColdObservable(     "---a---b--|");
+        scheduler.expectObservable(myObservable).toBe("---a---b--|");
+        scheduler.expectObservable(myObservable).toBe("---a---c--|");
+        scheduler.flush();
+    }
+
+    @Test
+    public void should_compare_several_expectations_on_flush() {
+        ColdObservable<String> myObservable = scheduler.createColdObservable("---a---b--|");
+        for (int i = 0; i < 10; i++) {
+            scheduler.expectObservable(myObservable).toBe("---a---b--|");
+        }
+    }
+
+    @Test
+    public void should_cancel_pending_actions_of_an_unsubscribed_worker() {
+        SchedulerMetricsReport metrics = new SchedulerMetricsReport();
+        scheduler.setMetrics(metrics);
+        final StringBuilder log = new StringBuilder();
+        Scheduler.Worker worker = scheduler.createWorker();
+        for (int i = 1; i <= 3; i++) {
+            worker.schedule(new Action0() {
+                @Override
+                public void call() {
+                    log.append("x");
+                }
+            }, i * 10, TimeUnit.MILLISECONDS);
+        }
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+        worker.unsubscribe();
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        assertThat(log.toString()).isEqualTo("x");
+        assertThat(metrics.getExecuted()).isEqualTo(1);
+        assertThat(metrics.getCancelled()).isEqualTo(2);
+        assertThat(worker.schedule(new Action0() {
+            @Override
+            public void call() {
+                log.append("y");
+            }
+        }).isUnsubscribed()).isTrue();
+    }
+
+}
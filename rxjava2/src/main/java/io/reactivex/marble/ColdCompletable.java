@@ -0,0 +1,56 @@
+package io.reactivex.marble;
+
+import io.reactivex.Completable;
+import io.reactivex.CompletableObserver;
+import io.reactivex.Scheduler;
+import org.reactivestreams.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+public class ColdCompletable extends Completable implements TestablePublisher<Object> {
+
+    private final TestablePublisher<Object> publisher;
+
+    protected ColdCompletable(TestablePublisher<Object> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    protected void subscribeActual(CompletableObserver observer) {
+        publisher.subscribe(new CompletableObserverAdapter<>(observer));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Object> s) {
+        publisher.subscribe(s);
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<Object>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    public static ColdCompletable create(Scheduler scheduler, Recorded<Object>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static ColdCompletable create(final Scheduler scheduler, List<Recorded<Object>> notifications) {
+
+        ColdPublisher<Object> coldPublisher = new ColdPublisher<>(new SchedulerFactory() {
+            @Override
+            public org.reactivestreams.Scheduler create() {
+                return new SchedulerAdapter(scheduler);
+            }
+        }, notifications);
+
+        return new ColdCompletable(coldPublisher);
+    }
+
+}
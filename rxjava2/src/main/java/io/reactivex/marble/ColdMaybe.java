@@ -0,0 +1,56 @@
+package io.reactivex.marble;
+
+import io.reactivex.Maybe;
+import io.reactivex.MaybeObserver;
+import io.reactivex.Scheduler;
+import org.reactivestreams.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+public class ColdMaybe<T> extends Maybe<T> implements TestablePublisher<T> {
+
+    private final TestablePublisher<T> publisher;
+
+    protected ColdMaybe(TestablePublisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    protected void subscribeActual(MaybeObserver<? super T> observer) {
+        publisher.subscribe(new MaybeObserverAdapter<>(observer));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        publisher.subscribe(s);
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<T>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    public static <T> ColdMaybe<T> create(Scheduler scheduler, Recorded<T>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static <T> ColdMaybe<T> create(final Scheduler scheduler, List<Recorded<T>> notifications) {
+
+        ColdPublisher<T> coldPublisher = new ColdPublisher<>(new SchedulerFactory() {
+            @Override
+            public org.reactivestreams.Scheduler create() {
+                return new SchedulerAdapter(scheduler);
+            }
+        }, notifications);
+
+        return new ColdMaybe<>(coldPublisher);
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.reactivex.marble;
+
+import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.Scheduler;
+import org.reactivestreams.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+public class ColdSingle<T> extends Single<T> implements TestablePublisher<T> {
+
+    private final TestablePublisher<T> publisher;
+
+    protected ColdSingle(TestablePublisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    protected void subscribeActual(SingleObserver<? super T> observer) {
+        publisher.subscribe(new SingleObserverAdapter<>(observer));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        publisher.subscribe(s);
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<T>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    public static <T> ColdSingle<T> create(Scheduler scheduler, Recorded<T>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static <T> ColdSingle<T> create(final Scheduler scheduler, List<Recorded<T>> notifications) {
+
+        ColdPublisher<T> coldPublisher = new ColdPublisher<>(new SchedulerFactory() {
+            @Override
+            public org.reactivestreams.Scheduler create() {
+                return new SchedulerAdapter(scheduler);
+            }
+        }, notifications);
+
+        return new ColdSingle<>(coldPublisher);
+    }
+
+}
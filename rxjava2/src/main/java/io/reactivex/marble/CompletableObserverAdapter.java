@@ -0,0 +1,53 @@
+package io.reactivex.marble;
+
+import io.reactivex.CompletableObserver;
+import io.reactivex.disposables.Disposable;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Feeds a completable with the terminal event of a marble source, values are ignored
+ */
+class CompletableObserverAdapter<T> implements Subscriber<T> {
+
+    private final CompletableObserver observer;
+
+    CompletableObserverAdapter(CompletableObserver observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        observer.onSubscribe(new Disposable() {
+
+            private boolean disposed = false;
+
+            @Override
+            public void dispose() {
+                disposed = true;
+                subscription.cancel();
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return disposed;
+            }
+        });
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(T t) {
+        // completables do not emit values
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        observer.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        observer.onComplete();
+    }
+}
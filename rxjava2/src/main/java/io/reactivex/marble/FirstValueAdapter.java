@@ -0,0 +1,70 @@
+package io.reactivex.marble;
+
+import io.reactivex.disposables.Disposable;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Feeds a single value observer with the first value of a marble source, cancelling the source right after.
+ * Subclasses decide what an empty source means.
+ */
+abstract class FirstValueAdapter<T> implements Subscriber<T> {
+
+    private Subscription subscription;
+    private boolean done = false;
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        this.subscription = subscription;
+        onSubscribe(new Disposable() {
+
+            @Override
+            public void dispose() {
+                done = true;
+                subscription.cancel();
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return done;
+            }
+        });
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(T t) {
+        if (!done) {
+            done = true;
+            subscription.cancel();
+            onSuccess(t);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!done) {
+            done = true;
+            onFailure(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            onEmpty();
+        }
+    }
+
+    abstract void onSubscribe(Disposable disposable);
+
+    abstract void onSuccess(T t);
+
+    abstract void onFailure(Throwable t);
+
+    /**
+     * Called when the source completes without any value.
+     */
+    abstract void onEmpty();
+}
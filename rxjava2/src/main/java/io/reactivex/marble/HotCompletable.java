@@ -0,0 +1,57 @@
+package io.reactivex.marble;
+
+import io.reactivex.Completable;
+import io.reactivex.CompletableObserver;
+import io.reactivex.Scheduler;
+import org.reactivestreams.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+public class HotCompletable extends Completable implements TestablePublisher<Object>, IRetainingPublisher {
+
+    private final TestablePublisher<Object> publisher;
+
+    protected HotCompletable(TestablePublisher<Object> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    protected void subscribeActual(CompletableObserver observer) {
+        publisher.subscribe(new CompletableObserverAdapter<>(observer));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Object> s) {
+        publisher.subscribe(s);
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<Object>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    @Override
+    public List<Object> getRetainedSubscribers() {
+        return publisher instanceof IRetainingPublisher
+                ? ((IRetainingPublisher) publisher).getRetainedSubscribers()
+                : Collections.<Object>emptyList();
+    }
+
+    public static HotCompletable create(Scheduler scheduler, Recorded<Object>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static HotCompletable create(Scheduler scheduler, List<Recorded<Object>> notifications) {
+        HotPublisher<Object> hotPublisher = new HotPublisher<>(new SchedulerAdapter(scheduler), notifications);
+        return new HotCompletable(hotPublisher);
+    }
+
+}
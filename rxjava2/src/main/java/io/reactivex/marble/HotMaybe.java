@@ -0,0 +1,57 @@
+package io.reactivex.marble;
+
+import io.reactivex.Maybe;
+import io.reactivex.MaybeObserver;
+import io.reactivex.Scheduler;
+import org.reactivestreams.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+public class HotMaybe<T> extends Maybe<T> implements TestablePublisher<T>, IRetainingPublisher {
+
+    private final TestablePublisher<T> publisher;
+
+    protected HotMaybe(TestablePublisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    protected void subscribeActual(MaybeObserver<? super T> observer) {
+        publisher.subscribe(new MaybeObserverAdapter<>(observer));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        publisher.subscribe(s);
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<T>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    @Override
+    public List<Object> getRetainedSubscribers() {
+        return publisher instanceof IRetainingPublisher
+                ? ((IRetainingPublisher) publisher).getRetainedSubscribers()
+                : Collections.<Object>emptyList();
+    }
+
+    public static <T> HotMaybe<T> create(Scheduler scheduler, Recorded<T>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static <T> HotMaybe<T> create(Scheduler scheduler, List<Recorded<T>> notifications) {
+        HotPublisher<T> hotPublisher = new HotPublisher<>(new SchedulerAdapter(scheduler), notifications);
+        return new HotMaybe<>(hotPublisher);
+    }
+
+}
@@ -6,10 +6,11 @@ import io.reactivex.Scheduler;
 import org.reactivestreams.*;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 
-public class HotObservable<T> extends Observable<T> implements TestablePublisher<T> {
+public class HotObservable<T> extends Observable<T> implements TestablePublisher<T>, IRetainingPublisher {
 
     private final TestablePublisher<T> publisher;
 
@@ -37,6 +38,13 @@ public class HotObservable<T> extends Observable<T> implements TestablePublisher
         return publisher.getMessages();
     }
 
+    @Override
+    public List<Object> getRetainedSubscribers() {
+        return publisher instanceof IRetainingPublisher
+                ? ((IRetainingPublisher) publisher).getRetainedSubscribers()
+                : Collections.<Object>emptyList();
+    }
+
     public static <T> HotObservable<T> create(Scheduler scheduler, Recorded<T>... notifications) {
         return create(scheduler, Arrays.asList(notifications));
     }
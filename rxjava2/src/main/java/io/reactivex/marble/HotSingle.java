@@ -0,0 +1,57 @@
+package io.reactivex.marble;
+
+import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.Scheduler;
+import org.reactivestreams.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+public class HotSingle<T> extends Single<T> implements TestablePublisher<T>, IRetainingPublisher {
+
+    private final TestablePublisher<T> publisher;
+
+    protected HotSingle(TestablePublisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    protected void subscribeActual(SingleObserver<? super T> observer) {
+        publisher.subscribe(new SingleObserverAdapter<>(observer));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        publisher.subscribe(s);
+    }
+
+    @Override
+    public List<SubscriptionLog> getSubscriptions() {
+        return publisher.getSubscriptions();
+    }
+
+    @Override
+    public List<Recorded<T>> getMessages() {
+        return publisher.getMessages();
+    }
+
+    @Override
+    public List<Object> getRetainedSubscribers() {
+        return publisher instanceof IRetainingPublisher
+                ? ((IRetainingPublisher) publisher).getRetainedSubscribers()
+                : Collections.<Object>emptyList();
+    }
+
+    public static <T> HotSingle<T> create(Scheduler scheduler, Recorded<T>... notifications) {
+        return create(scheduler, Arrays.asList(notifications));
+    }
+
+    public static <T> HotSingle<T> create(Scheduler scheduler, List<Recorded<T>> notifications) {
+        HotPublisher<T> hotPublisher = new HotPublisher<>(new SchedulerAdapter(scheduler), notifications);
+        return new HotSingle<>(hotPublisher);
+    }
+
+}
@@ -0,0 +1,360 @@
+package io.reactivex.marble;
+
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.annotations.NonNull;
+import org.reactivestreams.*;
+import org.reactivestreams.ExpectSubscriptionsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+public class MarbleScheduler extends Scheduler implements DigestReplay.IScheduler,
+        PerformanceBaseline.IScheduler {
+
+    private final VirtualTimeEngine engine;
+    private final MarbleSchedulerState state;
+    private final long frameTimeFactor;
+
+    public MarbleScheduler() {
+        this(10);
+    }
+
+    public MarbleScheduler(long frameTimeFactor) {
+        this.frameTimeFactor = frameTimeFactor;
+        engine = new VirtualTimeEngine(TimeUnit.MILLISECONDS.toNanos(frameTimeFactor));
+        state = new PatchedSchedulerState(frameTimeFactor, new MarbleSchedulerState.ISchedule() {
+            @Override
+            public long now() {
+                return MarbleScheduler.this.now(TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void schedule(Runnable runnable, long time) {
+                MarbleScheduler.this.createWorker().schedule(runnable, time, TimeUnit.MILLISECONDS);
+            }
+        }, getClass());
+    }
+
+    @Override
+    public long now(@NonNull TimeUnit unit) {
+        return unit.convert(engine.now(), TimeUnit.NANOSECONDS);
+    }
+
+    public void advanceTimeBy(long delayTime, TimeUnit unit) {
+        engine.advanceTimeBy(unit.toNanos(delayTime));
+    }
+
+    public void advanceTimeTo(long delayTime, TimeUnit unit) {
+        engine.advanceTimeTo(unit.toNanos(delayTime));
+    }
+
+    public void triggerActions() {
+        engine.triggerActions();
+    }
+
+    @Override
+    @NonNull
+    public Worker createWorker() {
+        return new MarbleWorker(engine);
+    }
+
+    public <T> ColdObservable<T> createColdObservable(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(ColdObservable.create(this, notifications), marbles, false);
+    }
+
+    public <T> ColdObservable<T> createColdObservable(String marbles) {
+        return createColdObservable(marbles, null);
+    }
+
+    public <T> ColdObservable<T> createColdObservable(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(ColdObservable.create(this, notifications), marbles.toString(), false);
+    }
+
+    public <T> ColdObservable<T> createColdObservable(PrecomputedMarbles marbles) {
+        return createColdObservable(marbles, null);
+    }
+
+    public <T> HotObservable<T> createHotObservable(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(HotObservable.create(this, notifications), marbles, true);
+    }
+
+    public <T> HotObservable<T> createHotObservable(String marbles) {
+        return createHotObservable(marbles, null);
+    }
+
+    public <T> HotObservable<T> createHotObservable(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(HotObservable.create(this, notifications), marbles.toString(), true);
+    }
+
+    public <T> HotObservable<T> createHotObservable(PrecomputedMarbles marbles) {
+        return createHotObservable(marbles, null);
+    }
+
+    public <T> ColdSingle<T> createColdSingle(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(ColdSingle.create(this, notifications), marbles, false);
+    }
+
+    public <T> ColdSingle<T> createColdSingle(String marbles) {
+        return createColdSingle(marbles, null);
+    }
+
+    public <T> ColdSingle<T> createColdSingle(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(ColdSingle.create(this, notifications), marbles.toString(), false);
+    }
+
+    public <T> ColdSingle<T> createColdSingle(PrecomputedMarbles marbles) {
+        return createColdSingle(marbles, null);
+    }
+
+    public <T> HotSingle<T> createHotSingle(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(HotSingle.create(this, notifications), marbles, true);
+    }
+
+    public <T> HotSingle<T> createHotSingle(String marbles) {
+        return createHotSingle(marbles, null);
+    }
+
+    public <T> HotSingle<T> createHotSingle(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(HotSingle.create(this, notifications), marbles.toString(), true);
+    }
+
+    public <T> HotSingle<T> createHotSingle(PrecomputedMarbles marbles) {
+        return createHotSingle(marbles, null);
+    }
+
+    public <T> ColdMaybe<T> createColdMaybe(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(ColdMaybe.create(this, notifications), marbles, false);
+    }
+
+    public <T> ColdMaybe<T> createColdMaybe(String marbles) {
+        return createColdMaybe(marbles, null);
+    }
+
+    public <T> ColdMaybe<T> createColdMaybe(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(ColdMaybe.create(this, notifications), marbles.toString(), false);
+    }
+
+    public <T> ColdMaybe<T> createColdMaybe(PrecomputedMarbles marbles) {
+        return createColdMaybe(marbles, null);
+    }
+
+    public <T> HotMaybe<T> createHotMaybe(String marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = Parser.parseMarbles(marbles, values, null, frameTimeFactor);
+        return state.track(HotMaybe.create(this, notifications), marbles, true);
+    }
+
+    public <T> HotMaybe<T> createHotMaybe(String marbles) {
+        return createHotMaybe(marbles, null);
+    }
+
+    public <T> HotMaybe<T> createHotMaybe(PrecomputedMarbles marbles, Map<String, T> values) {
+        List<Recorded<T>> notifications = marbles.toTimeline(values, null, frameTimeFactor);
+        return state.track(HotMaybe.create(this, notifications), marbles.toString(), true);
+    }
+
+    public <T> HotMaybe<T> createHotMaybe(PrecomputedMarbles marbles) {
+        return createHotMaybe(marbles, null);
+    }
+
+    public ColdCompletable createColdCompletable(String marbles) {
+        List<Recorded<Object>> notifications = Parser.parseMarbles(marbles, null, null, frameTimeFactor);
+        return state.track(ColdCompletable.create(this, notifications), marbles, false);
+    }
+
+    public ColdCompletable createColdCompletable(PrecomputedMarbles marbles) {
+        List<Recorded<Object>> notifications = marbles.<Object>toTimeline(null, null, frameTimeFactor);
+        return state.track(ColdCompletable.create(this, notifications), marbles.toString(), false);
+    }
+
+    public HotCompletable createHotCompletable(String marbles) {
+        List<Recorded<Object>> notifications = Parser.parseMarbles(marbles, null, null, frameTimeFactor);
+        return state.track(HotCompletable.create(this, notifications), marbles, true);
+    }
+
+    public HotCompletable createHotCompletable(PrecomputedMarbles marbles) {
+        List<Recorded<Object>> notifications = marbles.<Object>toTimeline(null, null, frameTimeFactor);
+        return state.track(HotCompletable.create(this, notifications), marbles.toString(), true);
+    }
+
+
+    /**
+     * Runs the virtual clock up to the given frame, excluded, and captures the notifications sent meanwhile by
+     * the prefix of a scenario. The scheduler should then be reset or dropped, see {@link Checkpoint}.
+     */
+    public <T> Checkpoint<T> checkpoint(Observable<T> prefix, long frame) {
+        List<Recorded<?>> timeline = state.record(ObserverForExpect.source(prefix));
+        engine.advanceTimeTo(TimeUnit.MILLISECONDS.toNanos(frame * frameTimeFactor));
+        return state.checkpoint(timeline, frame);
+    }
+
+    /**
+     * Creates a hot source replaying the notifications of a checkpoint, at their original times.
+     */
+    public <T> HotObservable<T> fork(Checkpoint<T> checkpoint) {
+        return state.track(HotObservable.create(this, checkpoint.getTimeline()), checkpoint.toString(), true);
+    }
+
+    public long createTime(String marbles) {
+        int endIndex = marbles.indexOf("|");
+        if (endIndex == -1) {
+            throw new RuntimeException("Marble diagram for time should have a completion marker '|'");
+        }
+
+        return endIndex * frameTimeFactor;
+    }
+
+    public void flush() {
+        advanceTimeTo(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        try {
+            state.flush();
+        } catch (ExpectationsFailedException ex) {
+            List<RuntimeException> failures = new ArrayList<>();
+            for (RuntimeException failure : ex.getFailures()) {
+                failures.add(convert(failure));
+            }
+            throw new ExpectationsFailedException(failures);
+        } catch (RuntimeException ex) {
+            throw convert(ex);
+        }
+    }
+
+    private static RuntimeException convert(RuntimeException ex) {
+        if (ex instanceof ExpectPublisherException) {
+            return new ExpectFlowableException(ex.getMessage());
+        }
+        if (ex instanceof ExpectSubscriptionsException) {
+            return new io.reactivex.marble.ExpectSubscriptionsException(ex.getMessage());
+        }
+        return ex;
+    }
+
+    public <T> ISetupTest expectObservable(Observable<T> observable) {
+        return expectObservable(observable, null);
+    }
+
+    public <T> ISetupTest expectObservable(Observable<T> observable, String unsubscriptionMarbles) {
+        return state.expect(ObserverForExpect.source(observable), unsubscriptionMarbles);
+    }
+
+    public <T> ISetupTest expectFlowable(Flowable<T> flowable) {
+        return expectFlowable(flowable, null);
+    }
+
+    public <T> ISetupTest expectFlowable(Flowable<T> flowable, String unsubscriptionMarbles) {
+        return state.expectPublisher(flowable, unsubscriptionMarbles);
+    }
+
+    public <T> ISetupTest expectSingle(Single<T> single) {
+        return expectSingle(single, null);
+    }
+
+    public <T> ISetupTest expectSingle(Single<T> single, String unsubscriptionMarbles) {
+        return state.expect(ObserverForExpect.source(single), unsubscriptionMarbles);
+    }
+
+    public <T> ISetupTest expectMaybe(Maybe<T> maybe) {
+        return expectMaybe(maybe, null);
+    }
+
+    public <T> ISetupTest expectMaybe(Maybe<T> maybe, String unsubscriptionMarbles) {
+        return state.expect(ObserverForExpect.source(maybe), unsubscriptionMarbles);
+    }
+
+    public ISetupTest expectCompletable(Completable completable) {
+        return expectCompletable(completable, null);
+    }
+
+    public ISetupTest expectCompletable(Completable completable, String unsubscriptionMarbles) {
+        return state.expect(ObserverForExpect.source(completable), unsubscriptionMarbles);
+    }
+
+    public ISetupSubscriptionsTest expectSubscriptions(List<SubscriptionLog> subscriptions) {
+        return state.expectSubscriptions(subscriptions);
+    }
+
+    /**
+     * Enables or disables digest recording, disabled by default.
+     * When enabled, only a digest of the streams under test is kept and a mismatch is reported with a
+     * {@link DigestMismatchException}, without any detail.
+     */
+    public void setDigestRecording(boolean digestRecording) {
+        state.setDigestRecording(digestRecording);
+    }
+
+    /**
+     * Drops every pending action, expectation and source, and sets the clock back to zero.
+     */
+    public void reset() {
+        engine.reset();
+        state.reset();
+    }
+
+    /**
+     * Sets how many levels of nested streams get materialized as marble diagrams, 1 by default.
+     */
+    public void setInnerStreamDepth(int innerStreamDepth) {
+        state.setInnerStreamDepth(innerStreamDepth);
+    }
+
+    /**
+     * Enables or disables on the fly comparison of inner streams, enabled by default.
+     * When enabled, inner streams matching their expectation are not buffered.
+     */
+    public void setDigestMatchingInnerStreams(boolean digestMatchingInnerStreams) {
+        state.setDigestMatchingInnerStreams(digestMatchingInnerStreams);
+    }
+
+    /**
+     * Instruments this scheduler, see {@link SchedulerMetricsReport} for a ready to print implementation.
+     */
+    public void setMetrics(ISchedulerMetrics metrics) {
+        engine.setMetrics(metrics);
+        state.setMetrics(metrics);
+    }
+
+    public ISchedulerMetrics getMetrics() {
+        return engine.getMetrics();
+    }
+
+    /**
+     * Lists the subscriptions to the sources created by this scheduler that were neither cancelled nor terminated,
+     * to be called after {@link #flush()}.
+     */
+    public List<String> findLeaks() {
+        return state.findLeaks();
+    }
+
+    public static class PatchedSchedulerState extends MarbleSchedulerState {
+
+        public PatchedSchedulerState(long frameTimeFactor, ISchedule scheduler, Class schedulerClass) {
+            super(frameTimeFactor, scheduler, schedulerClass);
+        }
+
+        @Override
+        protected Object materializeInnerStreamWhenNeeded(Object value) {
+            if (value instanceof Observable) {
+                return materializeInnerStream(ObserverForExpect.source((Observable<?>) value));
+            }
+            return super.materializeInnerStreamWhenNeeded(value);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.reactivex.marble;
+
+import io.reactivex.Scheduler;
+import io.reactivex.annotations.NonNull;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import org.reactivestreams.VirtualTimeEngine;
+import org.reactivestreams.WorkerTasks;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker scheduling actions on the virtual time engine of a marble scheduler
+ */
+class MarbleWorker extends Scheduler.Worker {
+
+    private final VirtualTimeEngine engine;
+    private final WorkerTasks tasks;
+
+    MarbleWorker(VirtualTimeEngine engine) {
+        this.engine = engine;
+        this.tasks = new WorkerTasks(engine);
+    }
+
+    @Override
+    @NonNull
+    public Disposable schedule(@NonNull Runnable run) {
+        return schedule(run, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    @NonNull
+    public Disposable schedule(@NonNull final Runnable run, long delay, @NonNull TimeUnit unit) {
+        final VirtualTimeEngine.Task task = tasks.schedule(run, unit.toNanos(delay));
+        if (task == null) {
+            return Disposables.disposed();
+        }
+        return new Disposable() {
+            @Override
+            public void dispose() {
+                tasks.cancel(task);
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return task.isCancelled();
+            }
+        };
+    }
+
+    @Override
+    public long now(@NonNull TimeUnit unit) {
+        return unit.convert(engine.now(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void dispose() {
+        tasks.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return tasks.isDisposed();
+    }
+}
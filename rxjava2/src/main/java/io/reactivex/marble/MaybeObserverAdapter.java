@@ -0,0 +1,36 @@
+package io.reactivex.marble;
+
+import io.reactivex.MaybeObserver;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Feeds a maybe with the first value of a marble source, cancelling the source right after
+ */
+class MaybeObserverAdapter<T> extends FirstValueAdapter<T> {
+
+    private final MaybeObserver<? super T> observer;
+
+    MaybeObserverAdapter(MaybeObserver<? super T> observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    void onSubscribe(Disposable disposable) {
+        observer.onSubscribe(disposable);
+    }
+
+    @Override
+    void onSuccess(T t) {
+        observer.onSuccess(t);
+    }
+
+    @Override
+    void onFailure(Throwable t) {
+        observer.onError(t);
+    }
+
+    @Override
+    void onEmpty() {
+        observer.onComplete();
+    }
+}
@@ -0,0 +1,94 @@
+package io.reactivex.marble;
+
+import io.reactivex.*;
+import io.reactivex.disposables.Disposable;
+import org.reactivestreams.MarbleSchedulerState;
+
+/**
+ * Records an observable, a single, a maybe or a completable without converting it to a flowable first
+ */
+class ObserverForExpect<T> implements Observer<T>, SingleObserver<T>, MaybeObserver<T>, CompletableObserver,
+        MarbleSchedulerState.ICancel {
+
+    private final MarbleSchedulerState.Recorder recorder;
+    private Disposable disposable;
+
+    ObserverForExpect(MarbleSchedulerState.Recorder recorder) {
+        this.recorder = recorder;
+    }
+
+    static <T> MarbleSchedulerState.IExpectSource source(final Observable<T> observable) {
+        return new MarbleSchedulerState.IExpectSource() {
+            @Override
+            public MarbleSchedulerState.ICancel subscribe(MarbleSchedulerState.Recorder recorder) {
+                ObserverForExpect<T> observer = new ObserverForExpect<>(recorder);
+                observable.subscribe(observer);
+                return observer;
+            }
+        };
+    }
+
+    static <T> MarbleSchedulerState.IExpectSource source(final Single<T> single) {
+        return new MarbleSchedulerState.IExpectSource() {
+            @Override
+            public MarbleSchedulerState.ICancel subscribe(MarbleSchedulerState.Recorder recorder) {
+                ObserverForExpect<T> observer = new ObserverForExpect<>(recorder);
+                single.subscribe(observer);
+                return observer;
+            }
+        };
+    }
+
+    static <T> MarbleSchedulerState.IExpectSource source(final Maybe<T> maybe) {
+        return new MarbleSchedulerState.IExpectSource() {
+            @Override
+            public MarbleSchedulerState.ICancel subscribe(MarbleSchedulerState.Recorder recorder) {
+                ObserverForExpect<T> observer = new ObserverForExpect<>(recorder);
+                maybe.subscribe(observer);
+                return observer;
+            }
+        };
+    }
+
+    static MarbleSchedulerState.IExpectSource source(final Completable completable) {
+        return new MarbleSchedulerState.IExpectSource() {
+            @Override
+            public MarbleSchedulerState.ICancel subscribe(MarbleSchedulerState.Recorder recorder) {
+                ObserverForExpect<Object> observer = new ObserverForExpect<>(recorder);
+                completable.subscribe(observer);
+                return observer;
+            }
+        };
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        disposable = d;
+    }
+
+    @Override
+    public void onNext(T t) {
+        recorder.onNext(t);
+    }
+
+    @Override
+    public void onSuccess(T t) {
+        recorder.onNext(t);
+        recorder.onComplete();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        recorder.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        recorder.onComplete();
+    }
+
+    @Override
+    public void cancel() {
+        disposable.dispose();
+    }
+}
@@ -0,0 +1,38 @@
+package io.reactivex.marble;
+
+import io.reactivex.SingleObserver;
+import io.reactivex.disposables.Disposable;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Feeds a single with the first value of a marble source, cancelling the source right after
+ */
+class SingleObserverAdapter<T> extends FirstValueAdapter<T> {
+
+    private final SingleObserver<? super T> observer;
+
+    SingleObserverAdapter(SingleObserver<? super T> observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    void onSubscribe(Disposable disposable) {
+        observer.onSubscribe(disposable);
+    }
+
+    @Override
+    void onSuccess(T t) {
+        observer.onSuccess(t);
+    }
+
+    @Override
+    void onFailure(Throwable t) {
+        observer.onError(t);
+    }
+
+    @Override
+    void onEmpty() {
+        observer.onError(new NoSuchElementException());
+    }
+}
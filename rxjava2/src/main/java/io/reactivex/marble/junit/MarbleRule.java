@@ -0,0 +1,191 @@
+package io.reactivex.marble.junit;
+
+
+import io.reactivex.*;
+import io.reactivex.marble.*;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.reactivestreams.DigestReplay;
+import org.reactivestreams.ISetupSubscriptionsTest;
+import org.reactivestreams.ISetupTest;
+import org.reactivestreams.PerformanceBaseline;
+import org.reactivestreams.PrecomputedMarbles;
+import org.reactivestreams.SubscriptionLog;
+
+import java.util.List;
+import java.util.Map;
+
+public class MarbleRule implements TestRule {
+
+    private static ThreadLocal<MarbleScheduler> schedulerHolder = new ThreadLocal<>();
+
+    public final MarbleScheduler scheduler;
+    private boolean digestRecording = false;
+    private PerformanceBaseline baseline;
+
+    public MarbleRule() {
+        scheduler = new MarbleScheduler();
+    }
+
+    public MarbleRule(long frameTimeFactor) {
+        scheduler = new MarbleScheduler(frameTimeFactor);
+    }
+
+    /**
+     * Only keeps a digest of the streams under test. When a digest does not match, the test is run again
+     * with a full recording in order to report the differences.
+     */
+    public MarbleRule withDigestRecording() {
+        digestRecording = true;
+        return this;
+    }
+
+    /**
+     * Measures each passing test and compares it with its baseline, see {@link PerformanceBaseline}.
+     * The same baseline instance can be shared by several rules.
+     */
+    public MarbleRule withBaseline(PerformanceBaseline baseline) {
+        this.baseline = baseline;
+        return this;
+    }
+
+    public static <T> HotObservable<T> hot(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createHotObservable(marbles, values);
+    }
+
+    public static HotObservable<String> hot(String marbles) {
+        return schedulerHolder.get().createHotObservable(marbles);
+    }
+
+    public static HotObservable<String> hot(PrecomputedMarbles marbles) {
+        return schedulerHolder.get().createHotObservable(marbles);
+    }
+
+    public static <T> ColdObservable<T> cold(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createColdObservable(marbles, values);
+    }
+
+    public static ColdObservable<String> cold(String marbles) {
+        return schedulerHolder.get().createColdObservable(marbles);
+    }
+
+    public static ColdObservable<String> cold(PrecomputedMarbles marbles) {
+        return schedulerHolder.get().createColdObservable(marbles);
+    }
+
+    public static <T> HotSingle<T> hotSingle(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createHotSingle(marbles, values);
+    }
+
+    public static HotSingle<String> hotSingle(String marbles) {
+        return schedulerHolder.get().createHotSingle(marbles);
+    }
+
+    public static <T> ColdSingle<T> coldSingle(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createColdSingle(marbles, values);
+    }
+
+    public static ColdSingle<String> coldSingle(String marbles) {
+        return schedulerHolder.get().createColdSingle(marbles);
+    }
+
+    public static <T> HotMaybe<T> hotMaybe(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createHotMaybe(marbles, values);
+    }
+
+    public static HotMaybe<String> hotMaybe(String marbles) {
+        return schedulerHolder.get().createHotMaybe(marbles);
+    }
+
+    public static <T> ColdMaybe<T> coldMaybe(String marbles, Map<String, T> values) {
+        return schedulerHolder.get().createColdMaybe(marbles, values);
+    }
+
+    public static ColdMaybe<String> coldMaybe(String marbles) {
+        return schedulerHolder.get().createColdMaybe(marbles);
+    }
+
+    public static HotCompletable hotCompletable(String marbles) {
+        return schedulerHolder.get().createHotCompletable(marbles);
+    }
+
+    public static ColdCompletable coldCompletable(String marbles) {
+        return schedulerHolder.get().createColdCompletable(marbles);
+    }
+
+    public static ISetupTest expectObservable(Observable<?> actual) {
+        return schedulerHolder.get().expectObservable(actual);
+    }
+
+    public static ISetupTest expectObservable(Observable<?> actual, String unsubscriptionMarbles) {
+        return schedulerHolder.get().expectObservable(actual, unsubscriptionMarbles);
+    }
+
+    public static ISetupTest expectFlowable(Flowable<?> actual) {
+        return schedulerHolder.get().expectFlowable(actual);
+    }
+
+    public static ISetupTest expectFlowable(Flowable<?> actual, String unsubscriptionMarbles) {
+        return schedulerHolder.get().expectFlowable(actual, unsubscriptionMarbles);
+    }
+
+    public static ISetupTest expectSingle(Single<?> actual) {
+        return schedulerHolder.get().expectSingle(actual);
+    }
+
+    public static ISetupTest expectSingle(Single<?> actual, String unsubscriptionMarbles) {
+        return schedulerHolder.get().expectSingle(actual, unsubscriptionMarbles);
+    }
+
+    public static ISetupTest expectMaybe(Maybe<?> actual) {
+        return schedulerHolder.get().expectMaybe(actual);
+    }
+
+    public static ISetupTest expectMaybe(Maybe<?> actual, String unsubscriptionMarbles) {
+        return schedulerHolder.get().expectMaybe(actual, unsubscriptionMarbles);
+    }
+
+    public static ISetupTest expectCompletable(Completable actual) {
+        return schedulerHolder.get().expectCompletable(actual);
+    }
+
+    public static ISetupTest expectCompletable(Completable actual, String unsubscriptionMarbles) {
+        return schedulerHolder.get().expectCompletable(actual, unsubscriptionMarbles);
+    }
+
+    public static ISetupSubscriptionsTest expectSubscriptions(List<SubscriptionLog> subscriptions) {
+        return schedulerHolder.get().expectSubscriptions(subscriptions);
+    }
+
+    @Override
+    public Statement apply(final Statement base, final Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                schedulerHolder.set(scheduler);
+                try {
+                    DigestReplay.ITest test = new DigestReplay.ITest() {
+                        @Override
+                        public void run() throws Throwable {
+                            DigestReplay.run(scheduler, digestRecording, new DigestReplay.ITest() {
+                                @Override
+                                public void run() throws Throwable {
+                                    base.evaluate();
+                                }
+                            });
+                        }
+                    };
+                    if (baseline == null) {
+                        test.run();
+                    } else {
+                        baseline.run(description.getDisplayName(), scheduler, test);
+                    }
+                } finally {
+                    schedulerHolder.remove();
+                }
+
+            }
+        };
+    }
+}
@@ -0,0 +1,643 @@
+package io.reactivex.marble;
+
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+import io.reactivex.observers.TestObserver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import io.reactivex.functions.BiFunction;
+import org.reactivestreams.Checkpoint;
+import org.reactivestreams.DigestMismatchException;
+import org.reactivestreams.IProperty;
+import org.reactivestreams.MarbleGenerator;
+import org.reactivestreams.PrecomputedMarbles;
+import org.reactivestreams.PropertyCheck;
+import org.reactivestreams.SchedulerMetricsReport;
+import org.reactivestreams.TimelineBuilder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static io.reactivex.marble.MapHelper.of;
+
+public class MarbleSchedulerTest {
+
+    private MarbleScheduler scheduler;
+
+    @Before
+    public void setupScheduler() {
+        scheduler = new MarbleScheduler();
+    }
+
+    @After
+    public void flushScheduler() {
+        if (scheduler != null) {
+            scheduler.flush();
+        }
+    }
+
+    @Test
+    public void should_create_a_cold_observable() {
+        ColdObservable<String> source = scheduler.createColdObservable("--a---b--|", of("a", "A", "b", "B"));
+        TestObserver<String> observer = new TestObserver<>();
+        source.subscribe(observer);
+        scheduler.advanceTimeBy(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        observer.assertValues("A", "B");
+    }
+
+    @Test
+    public void should_create_a_cold_observable_taking_in_account_frame_time_factor() {
+        scheduler = new MarbleScheduler(100);
+        ColdObservable<String> source = scheduler.createColdObservable("--a---b--|", of("a", "A", "b", "B"));
+        TestObserver<String> observer = new TestObserver<>();
+        source.subscribe(observer);
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        observer.assertNoValues();
+    }
+
+    @Test
+    public void should_create_a_hot_observable() {
+        HotObservable<String> source = scheduler.createHotObservable("--a---b--|", of("a", "A", "b", "B"));
+        TestObserver<String> observer = new TestObserver<>();
+        source.subscribe(observer);
+        scheduler.advanceTimeBy(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        observer.assertValues("A", "B");
+    }
+
+    @Test
+    public void should_create_a_hot_observable_taking_in_account_frame_time_factor() {
+        scheduler = new MarbleScheduler(100);
+        HotObservable<String> source = scheduler.createHotObservable("--a---b--|", of("a", "A", "b", "B"));
+        TestObserver<String> observer = new TestObserver<>();
+        source.subscribe(observer);
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        observer.assertNoValues();
+    }
+
+    @Test
+    public void should_create_a_hot_observable_sending_events_occurring_after_subscribe() {
+        final HotObservable<String> source = scheduler.createHotObservable("--a---b--|", of("a", "A", "b", "B"));
+        final TestObserver<String> observer = new TestObserver<>();
+        scheduler.createWorker().schedule(new Runnable() {
+            @Override
+            public void run() {
+                source.subscribe(observer);
+            }
+        }, 50, TimeUnit.MILLISECONDS);
+        scheduler.advanceTimeBy(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        observer.assertValue("B");
+    }
+
+    @Test
+    public void should_parse_a_simple_time_marble_string_to_a_number() {
+        long time = scheduler.createTime("-----|");
+        assertThat(time).isEqualTo(50l);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void should_throw_if_not_given_good_marble_input() {
+        scheduler.createTime("-a-b-c-#");
+    }
+
+    @Test
+    public void should_expect_empty_observable() {
+        scheduler.expectObservable(Observable.empty()).toBe("|", Collections.<String, Object>emptyMap());
+    }
+
+    @Test
+    public void should_expect_never_observable() {
+        scheduler.expectObservable(Observable.never()).toBe("-", Collections.<String, Object>emptyMap());
+        scheduler.expectObservable(Observable.never()).toBe("---", Collections.<String, Object>emptyMap());
+    }
+
+    @Test
+    public void should_expect_one_value_observable() {
+        scheduler.expectObservable(Observable.just("hello")).toBe("(h|)", of("h", (Object)"hello"));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void should_fail_when_event_values_differ() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        scheduler.expectObservable(Observable.just("hello")).toBe("(h|)", of("h", (Object)"bye"));
+        scheduler.flush();
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void should_fail_when_event_timing_differs() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        scheduler.expectObservable(Observable.just("hello")).toBe("--h|", of("h", (Object)"hello"));
+        scheduler.flush();
+    }
+
+    @Test
+    public void should_compare_streams_with_multiple_events() {
+        Observable<String> sourceEvents = scheduler.createColdObservable("a-b-c-|");
+        Observable<String> upperEvents = sourceEvents.map(new Function<String, String>() {
+            @Override
+            public String apply(String s) {
+                return s.toUpperCase();
+            }
+        });
+        scheduler.expectObservable(upperEvents).toBe("A-B-C-|");
+    }
+
+    @Test
+    public void should_use_unsubscription_diagram() {
+        Observable<String> source = scheduler.createHotObservable("---^-a-b-|");
+        String unsubscribe =                                         "---!";
+        String expected =                                            "--a";
+        scheduler.expectObservable(source, unsubscribe).toBe(expected);
+    }
+
+    @Test
+    public void should_assert_subscriptions_of_a_cold_observable() {
+        ColdObservable<String> source = scheduler.createColdObservable("---a---b-|");
+        String subs =                                                  "^--------!";
+        scheduler.expectSubscriptions(source.getSubscriptions()).toBe(subs);
+        source.subscribe();
+    }
+
+    @Test
+    public void should_assert_subscriptions_of_a_hot_observable() {
+        HotObservable<String> source = scheduler.createHotObservable("---a---b-|");
+        String subs =                                                  "^--------!";
+        scheduler.expectSubscriptions(source.getSubscriptions()).toBe(subs);
+        source.subscribe();
+    }
+
+    @Test
+    public void should_be_awesome() {
+        Map<String, ?> values = of("a", 1, "b", 2);
+        ColdObservable<?> myObservable
+                = scheduler.createColdObservable(     "---a---b--|", values);
+        String subs =                                 "^---------!";
+        scheduler.expectObservable(myObservable).toBe("---a---b--|", values);
+        scheduler.expectSubscriptions(myObservable.getSubscriptions()).toBe(subs);
+    }
+
+    @Test
+    public void should_support_testing_metastreams()
+    {
+        ColdObservable<String> x = scheduler.createColdObservable("-a-b|");
+        ColdObservable<String> y = scheduler.createColdObservable("-c-d|");
+        Observable<ColdObservable<String>> myObservable
+                = scheduler.createHotObservable("---x---y----|", of("x", x, "y", y));
+        String expected = "---x---y----|";
+        Object expectedx = scheduler.createColdObservable("-a-b|");
+        Object expectedy = scheduler.createColdObservable("-c-d|");
+        scheduler.expectObservable(myObservable).toBe(expected, of("x", expectedx, "y", expectedy));
+    }
+
+    @Test
+    public void should_demo_metastreams_with_windows() {
+        String input   =                                "a---b---c---d-|";
+        Observable<String> myObservable = scheduler.createColdObservable(input);
+
+        Observable<?> result = myObservable.window(2, 1);
+
+        Object aWindow = scheduler.createColdObservable("a---(b|)");
+        Object bWindow = scheduler.createColdObservable(    "b---(c|)");
+        Object cWindow = scheduler.createColdObservable(        "c---(d|)");
+        Object dWindow = scheduler.createColdObservable(            "d-|");
+
+        String expected = "a---b---c---d-|";
+        scheduler
+                .expectObservable(result)
+                .toBe(expected, of("a", aWindow, "b", bWindow, "c", cWindow, "d", dWindow));
+    }
+
+    @Test
+    public void should_report_actual_inner_stream_when_it_differs_from_expected_one() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        Observable<?> result = scheduler.createColdObservable("a---b---c-|").window(2, 1);
+
+        Object aWindow = scheduler.createColdObservable("a---(b|)");
+        Object bWindow = scheduler.createColdObservable(    "b---(x|)");
+        Object cWindow = scheduler.createColdObservable(        "c-|");
+
+        scheduler.expectObservable(result).toBe("a---b---c-|", of("a", aWindow, "b", bWindow, "c", cWindow));
+        try {
+            scheduler.flush();
+            fail("inner streams are different");
+        } catch(ExpectFlowableException ex) {
+            assertThat(ex.getMessage()).contains("On Next: x").contains("On Next: c");
+        }
+    }
+
+    @Test
+    public void should_materialize_nested_streams_up_to_configured_depth() {
+        scheduler.setInnerStreamDepth(2);
+        Observable<String> innermost = scheduler.createColdObservable("c|");
+        Observable<Observable<String>> inner = scheduler.createColdObservable("-b|", of("b", innermost));
+        Observable<Observable<Observable<String>>> outer = scheduler.createColdObservable("a|", of("a", inner));
+
+        Object expectedInner = scheduler.createColdObservable("-b|", of("b", scheduler.createColdObservable("c|")));
+        scheduler.expectObservable(outer).toBe("a|", of("a", expectedInner));
+    }
+
+    @Test
+    public void should_compare_inner_streams_as_values_when_depth_is_zero() {
+        scheduler.setInnerStreamDepth(0);
+        Observable<String> inner = scheduler.createColdObservable("-b|");
+        Observable<Observable<String>> outer = scheduler.createColdObservable("a|", of("a", inner));
+
+        scheduler.expectObservable(outer).toBe("a|", of("a", inner));
+    }
+
+    @Test
+    public void should_indicate_failed_assertion_with_unexpected_observable() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        scheduler.expectObservable(Observable.just("hello")).toBe("--h|");
+        try {
+            scheduler.flush();
+        } catch(ExpectFlowableException ex) {
+            assertThat(ex.getMessage()).contains("from assertion at " + getClass().getCanonicalName());
+        }
+    }
+
+    @Test
+    public void should_indicate_events_values_when_assertions_fails() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        scheduler.expectObservable(Observable.just("hello")).toBe("--h#", of("h", "hola"), new Exception());
+        try {
+            scheduler.flush();
+        } catch(ExpectFlowableException ex) {
+            assertThat(ex.getMessage()).contains("hello");
+            assertThat(ex.getMessage()).contains("On Error");
+        }
+    }
+
+    @Test
+    public void should_indicate_failed_assertion_when_no_expected_subscription() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        ColdObservable<?> myObservable
+                = scheduler.createColdObservable(     "---a---b--|");
+        String subs =                                 "^---------!";
+        scheduler.expectSubscriptions(myObservable.getSubscriptions()).toBe(subs);
+        try {
+            scheduler.flush();
+        } catch(ExpectSubscriptionsException ex) {
+            assertThat(ex.getMessage()).contains("from assertion at " + getClass().getCanonicalName());
+        } catch (Exception e) {
+            System.out.println("coucou" + e);
+        }
+    }
+
+    @Test
+    public void should_indicate_failed_assertion_with_unexpected_subscription() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        ColdObservable<?> myObservable
+                = scheduler.createColdObservable(     "---a---b--|");
+        String subs =                                 "^-----------!";
+        scheduler.expectObservable(myObservable).toBe("---a---b--|");
+        scheduler.expectSubscriptions(myObservable.getSubscriptions()).toBe(subs);
+        try {
+            scheduler.flush();
+        } catch(ExpectSubscriptionsException ex) {
+            assertThat(ex.getMessage()).contains("from assertion at " + getClass().getCanonicalName());
+        }
+    }
+
+    @Test
+    public void should_report_all_failures_with_rxjava_exceptions() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        ColdObservable<?> myObservable
+                = scheduler.createColdObservable(     "---a---b--|");
+        scheduler.expectSubscriptions(myObservable.getSubscriptions()).toBe("^-----------!");
+        scheduler.expectObservable(myObservable).toBe("---a---c--|");
+        try {
+            scheduler.flush();
+        } catch(org.reactivestreams.ExpectationsFailedException ex) {
+            assertThat(ex.getFailures()).hasSize(2);
+            assertThat(ex.getFailures().get(0)).isInstanceOf(ExpectSubscriptionsException.class);
+            assertThat(ex.getFailures().get(1)).isInstanceOf(ExpectFlowableException.class);
+            return;
+        }
+        throw new AssertionError("flush should have failed");
+    }
+
+    @Test
+    public void should_dispose_observable_using_unsubscription_diagram() {
+        Observable<Long> source = Observable.interval(10, TimeUnit.MILLISECONDS, scheduler);
+        String unsubscribe =                          "----!";
+        String expected =                             "-abc";
+        scheduler.expectObservable(source, unsubscribe).toBe(expected, of("a", 0L, "b", 1L, "c", 2L));
+    }
+
+    @Test
+    public void should_cancel_cold_single_on_first_value() {
+        ColdSingle<String> source = scheduler.createColdSingle("--a--b--|");
+        String subs =                                          "^-!";
+        scheduler.expectSingle(source).toBe("--(a|)");
+        scheduler.expectSubscriptions(source.getSubscriptions()).toBe(subs);
+    }
+
+    @Test
+    public void should_fail_single_when_source_completes_without_value() {
+        HotSingle<String> source = scheduler.createHotSingle("---|");
+        scheduler.expectSingle(source).toBe("---#");
+    }
+
+    @Test
+    public void should_create_a_hot_maybe_sending_events_occurring_after_subscribe() {
+        final HotMaybe<String> source = scheduler.createHotMaybe("--a---b--|");
+        final TestObserver<String> observer = new TestObserver<>();
+        scheduler.createWorker().schedule(new Runnable() {
+            @Override
+            public void run() {
+                source.subscribe(observer);
+            }
+        }, 50, TimeUnit.MILLISECONDS);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        observer.assertResult("b");
+    }
+
+    @Test
+    public void should_ignore_values_in_a_completable() {
+        ColdCompletable source = scheduler.createColdCompletable("-a-b-|");
+        scheduler.expectCompletable(source).toBe("-----|");
+    }
+
+    @Test
+    public void should_report_subscriptions_never_ended() {
+        HotObservable<String> endless = scheduler.createHotObservable("--a--b--");
+        ColdObservable<String> completed = scheduler.createColdObservable("--a--|");
+        endless.map(new Function<String, String>() {
+            @Override
+            public String apply(String x) {
+                return x.toUpperCase();
+            }
+        }).subscribe(new TestObserver<String>());
+        completed.subscribe(new TestObserver<String>());
+        scheduler.flush();
+
+        assertThat(scheduler.findLeaks()).hasSize(1);
+        assertThat(scheduler.findLeaks().get(0))
+                .startsWith("Hot source \"--a--b--\" has a subscription started at 0 "
+                        + "that was never cancelled nor terminated, the source still references ObserverAdapter -> ")
+                .contains("MapObserver -> TestObserver");
+    }
+
+    @Test
+    public void should_pass_with_digest_recording_when_streams_match() {
+        scheduler.setDigestRecording(true);
+        Observable<String> source = scheduler.createHotObservable("--a-(bc)--d--|");
+
+        scheduler.expectObservable(source).toBe(                  "--a-(cb)--d--|");
+    }
+
+    @Test(expected = DigestMismatchException.class)
+    public void should_fail_with_digest_recording_when_streams_differ() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        scheduler.setDigestRecording(true);
+        Observable<String> source = scheduler.createHotObservable("--a--b--|");
+
+        scheduler.expectObservable(source).toBe(                  "--a--c--|");
+        scheduler.flush();
+    }
+
+    @Test(expected = DigestMismatchException.class)
+    public void should_fail_with_digest_recording_when_values_have_the_same_hash_code() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        scheduler.setDigestRecording(true);
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        scheduler.expectObservable(Observable.just("Aa")).toBe("(a|)", of("a", "BB"));
+        scheduler.flush();
+    }
+
+    @Test(expected = DigestMismatchException.class)
+    public void should_fail_with_digest_recording_when_values_are_of_different_classes() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        scheduler.setDigestRecording(true);
+
+        scheduler.expectObservable(Observable.just(1)).toBe("(a|)", of("a", 1L));
+        scheduler.flush();
+    }
+
+    @Test
+    public void should_expect_timelines_built_without_marble_diagrams() {
+        TimelineBuilder<Integer> input = new TimelineBuilder<>(10, 1001);
+        TimelineBuilder<Integer> expected = new TimelineBuilder<>(10, 1001);
+        for (int i = 0; i < 1000; i++) {
+            input.next(i).skip(1);
+            expected.next(i * 2).skip(1);
+        }
+        input.complete();
+        expected.complete();
+
+        Observable<Integer> source = ColdObservable.create(scheduler, input.build());
+        Observable<Integer> result = source.map(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value * 2;
+            }
+        });
+
+        scheduler.expectObservable(result).toBe(expected.build());
+    }
+
+    @Test
+    public void should_only_compare_events_occurring_within_window() {
+        Observable<String> source = scheduler.createHotObservable("a-b-c-d-e-|");
+
+        scheduler.expectObservable(source).between(4, 7).toBe(        "c-d");
+    }
+
+    @Test
+    public void should_apply_window_to_events_emitted_on_subscription() {
+        scheduler.expectObservable(Observable.just("a")).between(0, 1).toBe("(a|)");
+        scheduler.expectObservable(Observable.just("a")).between(1, 10).toBe("-");
+    }
+
+    @Test(expected = ExpectFlowableException.class)
+    public void should_fail_when_events_within_window_differ() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        Observable<String> source = scheduler.createHotObservable("a-b-c-d-e-|");
+
+        scheduler.expectObservable(source).between(4, 7).toBe(        "c-x");
+        scheduler.flush();
+    }
+
+    @Test
+    public void should_accept_events_within_tolerance() {
+        Observable<String> source = scheduler.createHotObservable("a---b---c|");
+
+        scheduler.expectObservable(source).withTolerance(1).toBe( "-a--b--c-|");
+    }
+
+    @Test(expected = ExpectFlowableException.class)
+    public void should_fail_when_events_are_beyond_tolerance() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        Observable<String> source = scheduler.createHotObservable("a---b---c|");
+
+        scheduler.expectObservable(source).withTolerance(1).toBe( "--a-b---c|");
+        scheduler.flush();
+    }
+
+    @Test
+    public void should_check_map_against_generated_diagrams() {
+        new PropertyCheck(new MarbleGenerator(42).withMaxFrames(50), 2000).forAll(new IProperty() {
+            @Override
+            public void check(String... marbles) {
+                MarbleScheduler scheduler = new MarbleScheduler();
+                Observable<String> source = scheduler.createColdObservable(marbles[0]);
+
+                Observable<String> upper = source.map(new Function<String, String>() {
+                    @Override
+                    public String apply(String s) {
+                        return s.toUpperCase();
+                    }
+                });
+
+                scheduler.expectObservable(upper).toBe(marbles[0].toUpperCase());
+                scheduler.flush();
+            }
+        });
+    }
+
+    @Test
+    public void should_report_scheduler_metrics() {
+        SchedulerMetricsReport metrics = new SchedulerMetricsReport();
+        scheduler.setMetrics(metrics);
+        Observable<String> source = scheduler.createColdObservable("a-----b-----(c|)");
+
+        scheduler.expectObservable(source.mergeWith(source)).toBe("(aa)--(bb)--(cc|)");
+        scheduler.flush();
+        scheduler.flush();
+
+        assertThat(metrics.getSubscriptions()).isEqualTo(2);
+        assertThat(metrics.getRecordedNotifications()).isEqualTo(7);
+        assertThat(metrics.getExecuted()).isGreaterThanOrEqualTo(6);
+        assertThat(metrics.getExecuted() + metrics.getCancelled()).isLessThanOrEqualTo(metrics.getScheduled());
+    }
+
+    @Test
+    public void should_fork_checkpointed_prefix() {
+        TimelineBuilder<Integer> input = new TimelineBuilder<>(10, 1000);
+        for (int i = 0; i < 1000; i++) {
+            input.next(1);
+        }
+        MarbleScheduler setupScheduler = new MarbleScheduler();
+        Observable<Integer> prefix = ColdObservable.create(setupScheduler, input.build())
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer x) {
+                        return x * 2;
+                    }
+                });
+        Checkpoint<Integer> checkpoint = setupScheduler.checkpoint(prefix, 1000);
+        assertThat(checkpoint.getTimeline()).hasSize(1000);
+
+        for (int value : new int[]{ 1, 5 }) {
+            MarbleScheduler scheduler = new MarbleScheduler();
+            Observable<Integer> continuation
+                    = HotObservable.create(scheduler, new TimelineBuilder<Integer>(10).at(1000).next(value).build());
+
+            Observable<Integer> sum = scheduler.fork(checkpoint).mergeWith(continuation)
+                    .scan(new BiFunction<Integer, Integer, Integer>() {
+                        @Override
+                        public Integer apply(Integer x, Integer y) {
+                            return x + y;
+                        }
+                    });
+
+            scheduler.expectObservable(sum).between(1000, 1010).toBe("x", of("x", 2000 + value));
+            scheduler.flush();
+        }
+    }
+
+    @Test
+    public void should_fork_checkpointed_higher_order_prefix() {
+        MarbleScheduler setupScheduler = new MarbleScheduler();
+        Observable<Observable<String>> prefix = setupScheduler.<String>createColdObservable("a-b-c|")
+                .map(new Function<String, Observable<String>>() {
+                    @Override
+                    public Observable<String> apply(String x) {
+                        return Observable.just(x.toUpperCase());
+                    }
+                });
+        Checkpoint<Observable<String>> checkpoint = setupScheduler.checkpoint(prefix, 3);
+        assertThat(checkpoint.getTimeline()).hasSize(2);
+        assertThat(checkpoint.getTimeline().get(0).value.getValue()).isInstanceOf(Observable.class);
+
+        Observable<String> flattened = scheduler.fork(checkpoint)
+                .flatMap(new Function<Observable<String>, Observable<String>>() {
+                    @Override
+                    public Observable<String> apply(Observable<String> inner) {
+                        return inner;
+                    }
+                });
+
+        scheduler.expectObservable(flattened).toBe("A-B");
+    }
+
+    @Test
+    public void should_match_thousands_of_resubscriptions() {
+        ColdObservable<String> source = scheduler.createColdObservable("-#");
+
+        scheduler.expectObservable(source.retry(999))
+                .toBe(new TimelineBuilder<String>(10).at(1000).error(new Exception()).build());
+        scheduler.expectSubscriptions(source.getSubscriptions()).inAnyOrder().toBeRepeated("^!", 1000, 1);
+    }
+
+    @Test
+    public void should_only_report_unmatched_subscriptions() {
+        MarbleScheduler scheduler = new MarbleScheduler();
+        ColdObservable<String> source = scheduler.createColdObservable("-#");
+
+        scheduler.expectObservable(source.retry(99)).toEmitAtMost(0, 1);
+        scheduler.expectSubscriptions(source.getSubscriptions()).inAnyOrder().toBeRepeated("^!", 101, 1);
+        try {
+            scheduler.flush();
+            fail("one subscription is missing");
+        } catch (ExpectSubscriptionsException ex) {
+            assertThat(ex.getMessage())
+                    .contains("1 expected subscription(s) not observed, 0 observed subscription(s) not expected")
+                    .contains("subscribe=1000, unsubscribe=1010")
+                    .doesNotContain("subscribe=990");
+        }
+    }
+
+    @Test
+    public void should_check_rate_of_throttled_stream() {
+        TimelineBuilder<Integer> input = new TimelineBuilder<>(10, 10000);
+        for (int i = 0; i < 10000; i++) {
+            input.next(i);
+        }
+        Observable<Integer> source = ColdObservable.create(scheduler, input.build());
+
+        Observable<Integer> throttled = source.throttleFirst(100, TimeUnit.MILLISECONDS, scheduler);
+
+        scheduler.expectObservable(throttled).toEmitAtMost(1, 10);
+        scheduler.expectObservable(throttled).toEmitAtLeast(9, 100);
+    }
+
+    @Test
+    public void should_use_precomputed_diagrams_with_the_frame_time_factor_of_the_scheduler() {
+        scheduler = new MarbleScheduler(100);
+        // "--a---b--|", "^--------!" and "--A---B--|" as generated by the annotation processor
+        PrecomputedMarbles input = new PrecomputedMarbles(new long[]{ 2, 6, 9 }, new char[]{ 'a', 'b', '|' });
+        PrecomputedMarbles subscription = new PrecomputedMarbles(new long[]{ 0, 9 }, new char[]{ '^', '!' });
+        PrecomputedMarbles expected = new PrecomputedMarbles(new long[]{ 2, 6, 9 }, new char[]{ 'A', 'B', '|' });
+        ColdObservable<String> source = scheduler.createColdObservable(input);
+
+        scheduler.expectObservable(source.map(new Function<String, String>() {
+            @Override
+            public String apply(String s) {
+                return s.toUpperCase();
+            }
+        })).toBe(expected);
+        scheduler.expectSubscriptions(source.getSubscriptions()).toBe(subscription);
+        scheduler.flush();
+
+        assertThat(source.getSubscriptions().get(0).unsubscribe).isEqualTo(900);
+    }
+}
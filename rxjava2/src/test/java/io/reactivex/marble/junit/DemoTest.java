@@ -133,4 +133,39 @@ public class DemoTest {
         expectCompletable(output).toBe("---|");
     }
 
+    @Test
+    public void should_map_cold_single() {
+        // given
+        Single<String> input = coldSingle("--a--|");
+        // when
+        Single<String> output = input.map(new Function<String, String>() {
+            @Override
+            public String apply(String s) {
+                return s.toUpperCase();
+            }
+        });
+        // then
+        expectSingle(output).toBe("--(A|)");
+    }
+
+    @Test
+    public void should_complete_empty_maybe() {
+        Maybe<String> input = hotMaybe("---|");
+        expectMaybe(input).toBe("---|");
+    }
+
+    @Test
+    public void should_use_unsubscription_diagram_with_maybe() {
+        Maybe<String> input = hotMaybe("------a|");
+        String unsubscribe =           "---!";
+        expectMaybe(input, unsubscribe).toBe("---");
+    }
+
+    @Test
+    public void should_propagate_completable_error() {
+        Exception error = new Exception();
+        Completable input = coldCompletable("-a-b-#");
+        expectCompletable(input).toBe("-----#", null, error);
+    }
+
 }
@@ -0,0 +1,114 @@
+package io.reactivex.marble.junit;
+
+import io.reactivex.marble.ExpectFlowableException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.reactivestreams.PerformanceBaseline;
+import org.reactivestreams.SchedulerMetricsReport;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.Properties;
+
+import static io.reactivex.marble.junit.MarbleRule.expectObservable;
+import static io.reactivex.marble.junit.MarbleRule.hot;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class MarbleRuleTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_run_test_once_with_digest_recording_when_streams_match() throws Throwable {
+        CountingStatement test = new CountingStatement("--a--b--|");
+
+        new MarbleRule().withDigestRecording().apply(test, Description.EMPTY).evaluate();
+
+        assertThat(test.runs).isEqualTo(1);
+    }
+
+    @Test
+    public void should_replay_test_with_full_recording_when_digests_differ() throws Throwable {
+        CountingStatement test = new CountingStatement("--a--c--|");
+
+        try {
+            new MarbleRule().withDigestRecording().apply(test, Description.EMPTY).evaluate();
+            fail("streams are different");
+        } catch (ExpectFlowableException ex) {
+            assertThat(ex.getMessage()).contains("On Next: b").contains("On Next: c");
+        }
+        assertThat(test.runs).isEqualTo(2);
+    }
+
+    @Test
+    public void should_replay_test_flushing_the_scheduler_itself_when_digests_differ() throws Throwable {
+        final CountingStatement test = new CountingStatement("--a--c--|");
+        final MarbleRule rule = new MarbleRule().withDigestRecording();
+        Statement flushingTest = new Statement() {
+            @Override
+            public void evaluate() {
+                test.evaluate();
+                rule.scheduler.flush();
+            }
+        };
+
+        try {
+            rule.apply(flushingTest, Description.EMPTY).evaluate();
+            fail("streams are different");
+        } catch (ExpectFlowableException ex) {
+            assertThat(ex.getMessage()).contains("On Next: b").contains("On Next: c");
+        }
+        assertThat(test.runs).isEqualTo(2);
+    }
+
+    @Test
+    public void should_record_baseline_of_passing_test() throws Throwable {
+        File file = new File(folder.getRoot(), "baselines.properties");
+        Description description = Description.createTestDescription(MarbleRuleTest.class, "marble");
+
+        new MarbleRule().withBaseline(new PerformanceBaseline(file))
+                .apply(new CountingStatement("--a--b--|"), description).evaluate();
+
+        Properties baselines = new Properties();
+        try (FileInputStream input = new FileInputStream(file)) {
+            baselines.load(input);
+        }
+        String prefix = description.getDisplayName() + ".";
+        assertThat(baselines.getProperty(prefix + PerformanceBaseline.VIRTUAL_EVENTS)).isNotNull();
+        assertThat(baselines.getProperty(prefix + PerformanceBaseline.SCHEDULER_ACTIONS)).isNotNull();
+        assertThat(baselines.getProperty(prefix + PerformanceBaseline.WALL_TIME)).isNotNull();
+    }
+
+    @Test
+    public void should_keep_scheduler_metrics_while_measuring() throws Throwable {
+        File file = new File(folder.getRoot(), "baselines.properties");
+        SchedulerMetricsReport metrics = new SchedulerMetricsReport();
+        MarbleRule rule = new MarbleRule().withBaseline(new PerformanceBaseline(file));
+        rule.scheduler.setMetrics(metrics);
+
+        rule.apply(new CountingStatement("--a--b--|"), Description.EMPTY).evaluate();
+
+        assertThat(metrics.getExecuted()).isGreaterThan(0);
+        assertThat(rule.scheduler.getMetrics()).isSameAs(metrics);
+    }
+
+    private static class CountingStatement extends Statement {
+        private final String expected;
+        private int runs = 0;
+
+        CountingStatement(String expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public void evaluate() {
+            runs++;
+            expectObservable(hot("--a--b--|")).toBe(expected);
+        }
+    }
+}
@@ -1,6 +0,0 @@
-package org.reactivestreams;
-
-
-public interface ISetupSubscriptionsTest {
-    void toBe(String... marbles);
-}
\ No newline at end of file
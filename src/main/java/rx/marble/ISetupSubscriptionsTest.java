@@ -1,6 +0,0 @@
-package rx.marble;
-
-
-public interface ISetupSubscriptionsTest {
-    void toBe(String... marbles);
-}
\ No newline at end of file